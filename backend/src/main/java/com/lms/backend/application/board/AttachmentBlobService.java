@@ -0,0 +1,187 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.domain.board.AttachmentBlob;
+import com.lms.backend.domain.board.AttachmentBlobCreatedEvent;
+import com.lms.backend.domain.board.AttachmentReleasedEvent;
+import com.lms.backend.domain.board.FileAttachment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.infrastructure.board.AttachmentBlobRepository;
+import com.lms.backend.infrastructure.board.FileAttachmentBatchWriter;
+import com.lms.backend.infrastructure.board.FileAttachmentRepository;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.StagedFile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+// 첨부 원본 참조 수 관리 - 첨부 행 저장/삭제와 같은 트랜잭션에서 증감
+// 원본 파일 삭제는 커밋 후 별도 트랜잭션에서 원본 행을 잠근 채 처리하므로,
+// 같은 내용의 업로드는 참조 추가(UPDATE)에서 기다렸다가 행이 없으면 원본 행을 먼저 만든 뒤 파일을 기록
+@Service
+@Transactional
+public class AttachmentBlobService {
+    
+    private final AttachmentBlobRepository blobRepository;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final FileAttachmentBatchWriter fileAttachmentBatchWriter;
+    private final PostRepository postRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+    
+    @Autowired
+    public AttachmentBlobService(AttachmentBlobRepository blobRepository, FileAttachmentRepository fileAttachmentRepository,
+                                 FileAttachmentBatchWriter fileAttachmentBatchWriter, PostRepository postRepository,
+                                 AttachmentStorage attachmentStorage, ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.blobRepository = blobRepository;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileAttachmentBatchWriter = fileAttachmentBatchWriter;
+        this.postRepository = postRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    // 임시 파일로 첨부 등록 - 같은 내용의 원본이 있으면 참조만 추가하고 임시 파일은 버림
+    public FileAttachment attach(Long postId, StagedFile staged, String originalFileName, String contentType) throws IOException {
+        store(staged);
+        FileAttachment fileAttachment = newAttachment(staged.getChecksum(), originalFileName, staged.getSize(), contentType);
+        fileAttachment.setPost(postRepository.getReferenceById(postId));
+        postRepository.touch(postId, LocalDateTime.now());
+        return fileAttachmentRepository.save(fileAttachment);
+    }
+    
+    // 여러 임시 파일을 한 트랜잭션으로 첨부 - 첨부 행은 JDBC 배치 한 번으로 저장
+    // 롤백되면 이번에 새로 옮긴 원본 파일도 삭제되므로 전부 반영되거나 전부 취소됨
+    public List<FileAttachment> attachAll(Long postId, List<StagedFile> staged, List<String> originalFileNames,
+                                          List<String> contentTypes) throws IOException {
+        // 원본 행 잠금은 커밋까지 유지되므로 해시 순서로 잠가 동시 요청 간 교착 방지
+        List<StagedFile> byHash = new ArrayList<>(staged);
+        byHash.sort(Comparator.comparing(StagedFile::getChecksum));
+        for (StagedFile file : byHash) {
+            store(file);
+        }
+        
+        Post post = postRepository.getReferenceById(postId);
+        List<FileAttachment> attachments = new ArrayList<>(staged.size());
+        for (int i = 0; i < staged.size(); i++) {
+            StagedFile file = staged.get(i);
+            FileAttachment attachment = newAttachment(file.getChecksum(), originalFileNames.get(i), file.getSize(),
+                    contentTypes.get(i));
+            attachment.setPost(post);
+            attachments.add(attachment);
+        }
+        fileAttachmentBatchWriter.insertAll(postId, attachments);
+        postRepository.touch(postId, LocalDateTime.now());
+        return attachments;
+    }
+    
+    public void detach(FileAttachment attachment) {
+        postRepository.touch(attachment.getPost().getId(), LocalDateTime.now());
+        fileAttachmentRepository.delete(attachment);
+        release(attachment);
+    }
+    
+    // 게시글 삭제 시 함께 삭제되는 첨부의 참조 해제
+    public void releaseAll(Post post) {
+        for (FileAttachment attachment : post.getAttachments()) {
+            release(attachment);
+        }
+    }
+    
+    // 참조가 남지 않은 원본만 잠근 채 파일과 행 삭제 (그 사이 참조가 다시 생겼으면 유지)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onAttachmentReleased(AttachmentReleasedEvent event) throws IOException {
+        if (event.getBlobHash() == null) {
+            attachmentStorage.delete(Paths.get(event.getFilePath()));
+            return;
+        }
+        Optional<AttachmentBlob> blob = blobRepository.findUnreferencedForUpdate(event.getBlobHash());
+        if (blob.isPresent()) {
+            attachmentStorage.deleteBlob(event.getBlobHash());
+            blobRepository.delete(blob.get());
+        }
+    }
+    
+    // 첨부 저장이 롤백되면 이번에 새로 옮긴 원본 파일과 원본 행 삭제
+    // 원본 행을 잠근 채 참조가 없을 때만 삭제하므로, 그 사이 같은 내용을 참조한 요청이 있으면 유지
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBlobCreationRolledBack(AttachmentBlobCreatedEvent event) throws IOException {
+        Optional<AttachmentBlob> blob = blobRepository.findUnreferencedForUpdate(event.getBlobHash());
+        if (blob.isPresent()) {
+            attachmentStorage.deleteBlob(event.getBlobHash());
+            blobRepository.delete(blob.get());
+        }
+    }
+    
+    // 같은 내용의 원본이 있으면 참조만 추가하고 임시 파일은 버림
+    // 참조 추가(UPDATE)가 원본 행을 커밋/롤백까지 잠그므로 파일 이동과 원본 삭제/롤백 정리가 서로 겹치지 않음
+    private void store(StagedFile staged) throws IOException {
+        String hash = staged.getChecksum();
+        while (blobRepository.incrementReferences(hash) == 0) {
+            createBlob(hash, staged.getSize());
+        }
+        if (attachmentStorage.exists(hash)) {
+            attachmentStorage.discard(staged);
+            return;
+        }
+        // 새 내용이거나 원본 파일이 유실된 경우 (업로드된 내용으로 복구)
+        attachmentStorage.commit(staged);
+        eventPublisher.publishEvent(new AttachmentBlobCreatedEvent(hash));
+    }
+    
+    // 참조 없는 원본 행을 별도 트랜잭션으로 먼저 생성 - 같은 내용이 동시에 처음 올라오면 한쪽만 생성되고
+    // 나머지는 기본 키 충돌을 무시한 뒤 참조 추가를 다시 시도
+    private void createBlob(String hash, long size) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (!blobRepository.existsById(hash)) {
+                    blobRepository.insertUnreferenced(hash, size, LocalDateTime.now());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성함
+        }
+    }
+    
+    private void release(FileAttachment attachment) {
+        // 원본 공유 이전에 저장된 첨부는 저장 파일명이 해시가 아니므로 경로로만 삭제
+        String hash = attachment.getChecksum();
+        boolean blob = hash != null && hash.equals(attachment.getStoredFileName())
+                && blobRepository.decrementReferences(hash) > 0;
+        eventPublisher.publishEvent(new AttachmentReleasedEvent(blob ? hash : null, attachment.getFilePath()));
+    }
+    
+    private FileAttachment newAttachment(String hash, String originalFileName, long size, String contentType) {
+        FileAttachment fileAttachment = new FileAttachment(
+                originalFileName,
+                hash,
+                attachmentStorage.blobPath(hash).toString(),
+                size,
+                contentType
+        );
+        fileAttachment.setChecksum(hash);
+        return fileAttachment;
+    }
+}
\ No newline at end of file
@@ -1,29 +1,55 @@
 package com.lms.backend.application.board;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.lms.backend.application.board.dto.*;
+import com.lms.backend.application.common.CursorPage;
+import com.lms.backend.application.common.KeysetCursor;
+import com.lms.backend.application.user.UserPrincipal;
 import com.lms.backend.domain.board.BoardType;
 import com.lms.backend.domain.board.Comment;
+import com.lms.backend.domain.board.CommentChangedEvent;
 import com.lms.backend.domain.board.Post;
-import com.lms.backend.domain.user.Authority;
+import com.lms.backend.domain.board.PostChangedEvent;
 import com.lms.backend.domain.user.User;
 import com.lms.backend.infrastructure.board.CommentRepository;
+import com.lms.backend.infrastructure.board.CommentSummary;
 import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.PostUniqueViewerTracker;
+import com.lms.backend.infrastructure.board.PostValidator;
+import com.lms.backend.infrastructure.board.PostViewCountBuffer;
 import com.lms.backend.infrastructure.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BoardService {
     
+    // 비로그인 조회자 ID (어떤 작성자와도 일치하지 않음)
+    static final Long ANONYMOUS_VIEWER_ID = -1L;
+    
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
+    // 게시글 상세에 포함하는 첫 댓글 수
+    static final int DETAIL_COMMENT_COUNT = 20;
+    
     @Autowired
     private PostRepository postRepository;
     
@@ -33,154 +59,292 @@ public class BoardService {
     @Autowired
     private UserRepository userRepository;
     
-    public Page<PostResponse> getQnAPosts(int page, int size, String keyword, Long userId) {
+    @Autowired
+    private PostViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private PostUniqueViewerTracker uniqueViewerTracker;
+    
+    @Autowired
+    private PostSearchService postSearchService;
+    
+    @Autowired
+    private BoardStatsService boardStatsService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private AttachmentBlobService attachmentBlobService;
+    
+    public Page<PostResponse> getQnAPosts(int page, int size, String keyword, UserPrincipal viewer,
+                                          boolean readableOnly) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts;
+        Long viewerId = viewer != null ? viewer.getId() : ANONYMOUS_VIEWER_ID;
+        boolean isAdmin = viewer != null && viewer.isAdmin();
+        Page<PostResponse> posts;
         
+        // 비밀글 열람 가능 여부는 쿼리에서 계산 (visible)
         if (keyword != null && !keyword.trim().isEmpty()) {
-            posts = postRepository.findByBoardTypeAndKeywordContaining(BoardType.QNA, keyword, pageable);
+            posts = postSearchService.search(BoardType.QNA, keyword.trim(), viewer, readableOnly, pageable);
         } else {
-            posts = postRepository.findByBoardTypeOrderByCreatedAtDesc(BoardType.QNA, pageable);
+            posts = postRepository.findSummariesForViewer(BoardType.QNA, viewerId, isAdmin, readableOnly, pageable)
+                .map(PostResponse::new);
         }
         
-        return posts.map(post -> {
-            User user = userId != null ? getUserById(userId) : null;
-            boolean canView = post.canView(user);
-            return convertToPostResponse(post, canView);
-        });
+        uniqueViewerTracker.preload(posts.map(PostResponse::getId).getContent());
+        return posts.map(response -> toListResponse(response, Boolean.TRUE.equals(response.getVisible())));
     }
     
-    public PostDetailResponse getPostDetail(Long postId, Long userId) {
+    // 커서 기반 목록 - OFFSET/COUNT 없이 (created_at, id) 다음 위치부터 조회
+    @Transactional(readOnly = true)
+    public CursorPage<PostResponse> getPostsByCursor(BoardType boardType, String cursor, int size,
+                                                     UserPrincipal viewer, boolean readableOnly) {
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+        Long viewerId = viewer != null ? viewer.getId() : ANONYMOUS_VIEWER_ID;
+        boolean isAdmin = viewer != null && viewer.isAdmin();
+        Slice<PostResponse> posts;
+        
+        if (cursor == null || cursor.isEmpty()) {
+            posts = postRepository.findSliceForViewer(boardType, viewerId, isAdmin, readableOnly, limit)
+                .map(PostResponse::new);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            posts = postRepository.findSliceForViewerAfter(
+                boardType, viewerId, isAdmin, readableOnly, after.getCreatedAt(), after.getId(), limit)
+                .map(PostResponse::new);
+        }
+        
+        List<PostResponse> content = posts.getContent();
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            PostResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        
+        uniqueViewerTracker.preload(content.stream().map(PostResponse::getId).collect(Collectors.toList()));
+        List<PostResponse> responses = content.stream()
+            .map(response -> toListResponse(response, Boolean.TRUE.equals(response.getVisible())))
+            .collect(Collectors.toList());
+        return new CursorPage<>(responses, nextCursor);
+    }
+    
+    @Transactional(readOnly = true)
+    public PostDetailResponse getPostDetail(Long postId, UserPrincipal viewer, long viewerFingerprint) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        User user = userId != null ? getUserById(userId) : null;
-        
-        if (!post.canView(user)) {
+        if (!canView(post, viewer)) {
             throw new AccessDeniedException("게시글을 볼 권한이 없습니다.");
         }
         
-        // 조회수 증가
-        post.incrementViewCount();
-        postRepository.save(post);
+        // 조회수 증가 (버퍼에 누적 후 일괄 반영)
+        viewCountBuffer.increment(postId);
+        uniqueViewerTracker.recordView(postId, viewerFingerprint);
         
-        // 댓글 조회
-        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
-        List<CommentResponse> commentResponses = comments.stream()
-            .map(CommentResponse::fromComment)
-            .collect(Collectors.toList());
+        // 첫 댓글 페이지만 조회 (나머지는 커서로 이어서 조회)
+        CursorPage<CommentResponse> comments = findComments(postId, null, DETAIL_COMMENT_COUNT);
         
-        return PostDetailResponse.fromPost(post, commentResponses);
+        PostDetailResponse response = PostDetailResponse.fromPost(post, comments.getItems());
+        response.setCommentCount(post.getCommentCount());
+        response.setCommentsNextCursor(comments.getNextCursor());
+        response.setViewCount(currentViewCount(post));
+        response.setUniqueViewCount(uniqueViewerTracker.estimate(postId));
+        return response;
+    }
+    
+    // 조건부 조회용 검증 정보 - 게시글 엔티티를 로딩하지 않고 권한까지 확인
+    // 없거나 볼 수 없으면 빈 값 (오류 응답은 기존 조회 경로에서 처리)
+    @Transactional(readOnly = true)
+    public Optional<PostValidator> findVisibleValidator(Long postId, UserPrincipal viewer) {
+        Long viewerId = viewer != null ? viewer.getId() : ANONYMOUS_VIEWER_ID;
+        boolean isAdmin = viewer != null && viewer.isAdmin();
+        return postRepository.findValidatorById(postId)
+            .filter(validator -> validator.canView(viewerId, isAdmin));
+    }
+    
+    // 304 응답도 조회로 집계
+    public void recordView(Long postId, long viewerFingerprint) {
+        viewCountBuffer.increment(postId);
+        uniqueViewerTracker.recordView(postId, viewerFingerprint);
+    }
+    
+    // 커서 기반 댓글 목록 - 작성 순서대로 (created_at, id) 다음 위치부터 조회
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getComments(Long postId, String cursor, int size, UserPrincipal viewer) {
+        checkCanView(postId, viewer);
+        return findComments(postId, cursor, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
     }
     
-    public PostResponse createQnAPost(PostCreateRequest request, Long userId) {
-        User author = getUserById(userId);
+    // 전체 댓글을 NDJSON(한 줄에 댓글 하나)으로 내보냄 - 결과를 메모리에 모으지 않고 행 단위로 기록
+    @Transactional(readOnly = true)
+    public void exportComments(Long postId, UserPrincipal viewer, OutputStream out) throws IOException {
+        checkCanView(postId, viewer);
+        
+        ObjectWriter writer = objectMapper.writer();
+        try (Stream<CommentSummary> comments = commentRepository.streamByPostId(postId)) {
+            Iterator<CommentSummary> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(new CommentResponse(iterator.next())));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+    
+    @Transactional(readOnly = true)
+    public void checkCanView(Long postId, UserPrincipal viewer) {
+        Post post = postRepository.findById(postId)
+            .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        
+        if (!canView(post, viewer)) {
+            throw new AccessDeniedException("게시글을 볼 권한이 없습니다.");
+        }
+    }
+    
+    private CursorPage<CommentResponse> findComments(Long postId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        Slice<CommentSummary> comments;
+        
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findSliceByPostId(postId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            comments = commentRepository.findSliceByPostIdAfter(postId, after.getCreatedAt(), after.getId(), limit);
+        }
+        
+        List<CommentResponse> content = comments.map(CommentResponse::new).getContent();
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            CommentResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor);
+    }
+    
+    public PostResponse createQnAPost(PostCreateRequest request, UserPrincipal currentUser) {
+        User author = getUserById(currentUser.getId());
         
         Post post = Post.createQnA(request.getTitle(), request.getContent(), author, request.getIsSecret());
         Post savedPost = postRepository.save(post);
+        boardStatsService.postCreated(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), savedPost.getBoardType(), false));
         
         return convertToPostResponse(savedPost, true);
     }
     
-    public PostResponse updatePost(Long postId, PostUpdateRequest request, Long userId) {
+    public PostResponse updatePost(Long postId, PostUpdateRequest request, UserPrincipal currentUser) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        User user = getUserById(userId);
-        
-        if (!post.canEdit(user)) {
+        if (!post.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new AccessDeniedException("게시글을 수정할 권한이 없습니다.");
         }
         
         post.updateContent(request.getTitle(), request.getContent());
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(updatedPost.getId(), updatedPost.getBoardType(), false));
         
         return convertToPostResponse(updatedPost, true);
     }
     
-    public void deletePost(Long postId, Long userId) {
+    public void deletePost(Long postId, UserPrincipal currentUser) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        User user = getUserById(userId);
-        
-        if (!post.canEdit(user)) {
+        if (!post.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new AccessDeniedException("게시글을 삭제할 권한이 없습니다.");
         }
         
+        attachmentBlobService.releaseAll(post);
         postRepository.delete(post);
+        boardStatsService.postDeleted(post);
+        uniqueViewerTracker.forget(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, post.getBoardType(), true));
     }
     
-    public CommentResponse createComment(Long postId, CommentCreateRequest request, Long userId) {
+    public CommentResponse createComment(Long postId, CommentCreateRequest request, UserPrincipal currentUser) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        User author = getUserById(userId);
-        
         // 비밀글인 경우 권한 확인
-        if (!post.canView(author)) {
+        if (!canView(post, currentUser)) {
             throw new AccessDeniedException("댓글을 작성할 권한이 없습니다.");
         }
         
+        User author = getUserById(currentUser.getId());
+        
         Comment comment = new Comment(request.getContent(), post, author);
         Comment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        postRepository.touch(postId, LocalDateTime.now());
+        boardStatsService.commentAdded(postId);
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, post.getBoardType()));
         
         return CommentResponse.fromComment(savedComment);
     }
     
-    public CommentResponse updateComment(Long commentId, CommentUpdateRequest request, Long userId) {
+    public CommentResponse updateComment(Long commentId, CommentUpdateRequest request, UserPrincipal currentUser) {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         
-        User user = getUserById(userId);
-        
-        if (!comment.canEdit(user)) {
+        if (!comment.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new AccessDeniedException("댓글을 수정할 권한이 없습니다.");
         }
         
         comment.updateContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
+        postRepository.touch(comment.getPost().getId(), LocalDateTime.now());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(), comment.getPost().getBoardType()));
         
         return CommentResponse.fromComment(updatedComment);
     }
     
-    public void deleteComment(Long commentId, Long userId) {
+    public void deleteComment(Long commentId, UserPrincipal currentUser) {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         
-        User user = getUserById(userId);
-        
-        if (!comment.canEdit(user)) {
+        if (!comment.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new AccessDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
         
         commentRepository.delete(comment);
+        postRepository.adjustCommentCount(comment.getPost().getId(), -1);
+        postRepository.touch(comment.getPost().getId(), LocalDateTime.now());
+        boardStatsService.commentRemoved(comment.getPost().getId());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(), comment.getPost().getBoardType()));
     }
     
     // Notice Board Methods
     public Page<PostResponse> getNoticePosts(int page, int size, String keyword) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts;
+        Page<PostResponse> posts;
         
         if (keyword != null && !keyword.trim().isEmpty()) {
-            posts = postRepository.findByBoardTypeAndKeywordContaining(BoardType.NOTICE, keyword, pageable);
+            posts = postSearchService.search(BoardType.NOTICE, keyword.trim(), null, false, pageable);
         } else {
-            posts = postRepository.findByBoardTypeOrderByCreatedAtDesc(BoardType.NOTICE, pageable);
+            posts = postRepository.findSummariesByBoardType(BoardType.NOTICE, pageable).map(PostResponse::new);
         }
         
-        return posts.map(post -> convertToPostResponse(post, true)); // 공지사항은 모두 볼 수 있음
+        uniqueViewerTracker.preload(posts.map(PostResponse::getId).getContent());
+        return posts.map(response -> toListResponse(response, true)); // 공지사항은 모두 볼 수 있음
     }
     
-    public PostResponse createNoticePost(PostCreateRequest request, Long userId) {
-        User author = getUserById(userId);
-        
+    public PostResponse createNoticePost(PostCreateRequest request, UserPrincipal currentUser) {
         // 관리자만 공지사항 작성 가능
-        if (!author.getAuthorities().contains(Authority.ADMIN)) {
+        if (!currentUser.isAdmin()) {
             throw new AccessDeniedException("공지사항을 작성할 권한이 없습니다.");
         }
         
+        User author = getUserById(currentUser.getId());
+        
         Post post = Post.createNotice(request.getTitle(), request.getContent(), author);
         Post savedPost = postRepository.save(post);
+        boardStatsService.postCreated(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), savedPost.getBoardType(), false));
         
         return convertToPostResponse(savedPost, true);
     }
@@ -190,6 +354,24 @@ public class BoardService {
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
     }
     
+    private boolean canView(Post post, UserPrincipal viewer) {
+        return viewer != null ? post.canView(viewer.getId(), viewer.isAdmin()) : post.canView(null, false);
+    }
+    
+    private PostResponse toListResponse(PostResponse response, boolean canView) {
+        if (!canView) {
+            response.setTitle("[비밀글]");
+        }
+        response.setViewCount((int) (response.getViewCount() + viewCountBuffer.getPending(response.getId())));
+        response.setUniqueViewCount(uniqueViewerTracker.estimate(response.getId()));
+        return response;
+    }
+    
+    // 저장된 조회수 + 아직 반영되지 않은 조회수
+    private int currentViewCount(Post post) {
+        return (int) (post.getViewCount() + viewCountBuffer.getPending(post.getId()));
+    }
+    
     private PostResponse convertToPostResponse(Post post, boolean canView) {
         PostResponse response = new PostResponse();
         response.setId(post.getId());
@@ -198,10 +380,11 @@ public class BoardService {
         response.setBoardType(post.getBoardType());
         response.setIsNotice(post.getIsNotice());
         response.setIsSecret(post.getIsSecret());
-        response.setViewCount(post.getViewCount());
+        response.setViewCount(currentViewCount(post));
+        response.setUniqueViewCount(uniqueViewerTracker.estimate(post.getId()));
         response.setAuthorName(post.getAuthor().getName());
         response.setAuthorId(post.getAuthor().getId());
-        response.setCommentCount(post.getComments().size());
+        response.setCommentCount(post.getCommentCount());
         response.setCreatedAt(post.getCreatedAt());
         response.setUpdatedAt(post.getUpdatedAt());
         return response;
@@ -0,0 +1,30 @@
+package com.lms.backend.application.board;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시판 통계 보정 작업 - 주기적으로 증분 값의 오차를 바로잡음 (전체 재계산은 기동 시 실행하지 않음)
+@Component
+public class BoardStatsReconcileJob {
+    
+    private final BoardStatsService boardStatsService;
+    
+    @Autowired
+    public BoardStatsReconcileJob(BoardStatsService boardStatsService) {
+        this.boardStatsService = boardStatsService;
+    }
+    
+    // 기동 시에는 행 생성만 확인 (운영 DB는 마이그레이션으로 행과 초기 값이 만들어져 있음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        boardStatsService.initialize();
+    }
+    
+    @Scheduled(cron = "${board.stats.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+        boardStatsService.reconcile();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.application.board.dto.BoardStatsResponse;
+import com.lms.backend.domain.board.BoardStats;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.infrastructure.board.BoardStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 게시판 통계 - 게시글/댓글 작성 트랜잭션 안에서 board_stats 행을 증분 갱신, 조회는 행 하나만 읽음
+@Service
+@Transactional
+public class BoardStatsService {
+    
+    private final BoardStatsRepository boardStatsRepository;
+    
+    @Autowired
+    public BoardStatsService(BoardStatsRepository boardStatsRepository) {
+        this.boardStatsRepository = boardStatsRepository;
+    }
+    
+    @Transactional(readOnly = true)
+    public BoardStatsResponse getStats(BoardType boardType) {
+        LocalDate today = LocalDate.now();
+        return boardStatsRepository.findById(boardType)
+                .map(stats -> BoardStatsResponse.from(stats, today))
+                .orElseGet(() -> BoardStatsResponse.from(new BoardStats(boardType), today));
+    }
+    
+    public void postCreated(Post post) {
+        boardStatsRepository.incrementPosts(post.getBoardType().name(), post.getIsSecret() ? 1 : 0, LocalDate.now());
+    }
+    
+    public void postDeleted(Post post) {
+        LocalDate createdDate = post.getCreatedAt() != null ? post.getCreatedAt().toLocalDate() : LocalDate.now();
+        boardStatsRepository.decrementPosts(post.getBoardType().name(), post.getIsSecret() ? 1 : 0,
+                post.getCommentCount() == 0 ? 1 : 0, createdDate);
+    }
+    
+    public void commentAdded(Long postId) {
+        boardStatsRepository.markAnswered(postId);
+    }
+    
+    public void commentRemoved(Long postId) {
+        boardStatsRepository.markUnanswered(postId);
+    }
+    
+    // 없는 게시판 행만 만들고, 새로 만든 행이 있을 때만 전체 값을 계산 (행이 모두 있으면 조회만 함)
+    public void initialize() {
+        boolean created = false;
+        for (BoardType boardType : BoardType.values()) {
+            if (!boardStatsRepository.existsById(boardType)) {
+                boardStatsRepository.saveAndFlush(new BoardStats(boardType));
+                created = true;
+            }
+        }
+        if (created) {
+            reconcile();
+        }
+    }
+    
+    // 실제 게시글/댓글로 전체 값을 다시 계산
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        boardStatsRepository.reconcileAll(today, today.atStartOfDay(), LocalDateTime.now());
+    }
+}
\ No newline at end of file
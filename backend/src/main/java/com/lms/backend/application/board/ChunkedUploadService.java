@@ -0,0 +1,207 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.application.board.dto.UploadSessionRequest;
+import com.lms.backend.domain.board.FileAttachment;
+import com.lms.backend.domain.board.UploadSession;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.UploadSessionRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.StagedFile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이어 올리기(청크) 업로드 - 세션 생성, 위치 지정 기록, 현재 위치 조회, 첨부로 전환
+// 청크는 미리 할당한 파일의 해당 위치에 바로 기록하므로 파일 크기와 관계없이 메모리 사용량이 일정함
+@Service
+@Transactional
+public class ChunkedUploadService {
+    
+    private final UploadSessionRepository sessionRepository;
+    private final PostRepository postRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentBlobService attachmentBlobService;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 이 서버에서 기록/전환 중인 세션 (같은 세션에 대한 동시 요청 차단)
+    private final Set<String> busySessions = ConcurrentHashMap.newKeySet();
+    
+    @Value("${file.upload.chunked.max-size:2GB}")
+    private DataSize maxUploadSize;
+    
+    @Value("${file.upload.chunked.expire-after:24h}")
+    private Duration expireAfter;
+    
+    @Value("${file.upload.chunked.max-open-sessions:5}")
+    private int maxOpenSessions;
+    
+    @Autowired
+    public ChunkedUploadService(UploadSessionRepository sessionRepository, PostRepository postRepository,
+                                AttachmentStorage attachmentStorage, AttachmentBlobService attachmentBlobService,
+                                TransactionTemplate transactionTemplate) {
+        this.sessionRepository = sessionRepository;
+        this.postRepository = postRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.attachmentBlobService = attachmentBlobService;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    public UploadSession createSession(UploadSessionRequest request, Long uploaderId) throws IOException {
+        if (!FileUploadService.isAllowedContentType(request.getContentType())) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + request.getContentType());
+        }
+        if (request.getLength() > maxUploadSize.toBytes()) {
+            throw new IllegalArgumentException("파일 크기는 " + maxUploadSize.toMegabytes() + "MB를 넘을 수 없습니다");
+        }
+        if (!postRepository.existsById(request.getPostId())) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다");
+        }
+        // 세션마다 전체 크기를 미리 할당하므로 사용자별 진행 중인 세션 수 제한
+        if (sessionRepository.countOpenByUploaderId(uploaderId, LocalDateTime.now()) >= maxOpenSessions) {
+            throw new IllegalStateException("진행 중인 업로드가 너무 많습니다 (최대 " + maxOpenSessions + "개)");
+        }
+        
+        UploadSession session = new UploadSession(request.getPostId(), uploaderId, request.getFileName(),
+                request.getContentType(), request.getLength(), LocalDateTime.now().plus(expireAfter));
+        attachmentStorage.allocate(session.getId(), session.getLength());
+        return sessionRepository.save(session);
+    }
+    
+    @Transactional(readOnly = true)
+    public UploadSession getSession(String id, Long uploaderId) {
+        return findSession(id, uploaderId);
+    }
+    
+    // 현재 위치에서 이어지는 청크만 기록 - 기록하는 동안 트랜잭션(커넥션)을 잡지 않음
+    // contentLength는 모르면 -1
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long appendChunk(String id, Long uploaderId, long offset, long contentLength, InputStream body) throws IOException {
+        acquire(id);
+        try {
+            UploadSession session = findSession(id, uploaderId);
+            if (offset != session.getOffset()) {
+                throw new IllegalStateException("업로드 위치가 맞지 않습니다 (현재 " + session.getOffset() + ")");
+            }
+            long remaining = session.getLength() - offset;
+            if (contentLength > remaining) {
+                throw new IllegalArgumentException("청크가 남은 파일 크기(" + remaining + ")를 넘습니다");
+            }
+            
+            long written = attachmentStorage.writeChunk(id, offset, body, remaining);
+            if (written > 0 && sessionRepository.advanceOffset(id, offset, offset + written,
+                    LocalDateTime.now().plus(expireAfter)) == 0) {
+                throw new IllegalStateException("업로드 세션이 변경되었습니다");
+            }
+            return offset + written;
+        } finally {
+            busySessions.remove(id);
+        }
+    }
+    
+    // 다 받은 세션을 첨부로 전환 (같은 내용이 이미 있으면 원본 공유)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileAttachment complete(String id, Long uploaderId) throws IOException {
+        acquire(id);
+        try {
+            UploadSession session = findSession(id, uploaderId);
+            if (!session.isComplete()) {
+                throw new IllegalStateException("아직 받지 않은 데이터가 있습니다 ("
+                        + session.getOffset() + "/" + session.getLength() + ")");
+            }
+            if (!postRepository.existsById(session.getPostId())) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다");
+            }
+            
+            // 첨부 저장과 세션 삭제는 한 트랜잭션으로 처리 - 실패하면 세션과 업로드 파일이 남아 다시 완료 요청할 수 있음
+            StagedFile staged = attachmentStorage.seal(id, session.getLength());
+            FileAttachment attachment;
+            try {
+                attachment = transactionTemplate.execute(status -> attachAndClose(session, staged));
+            } catch (UncheckedIOException e) {
+                attachmentStorage.discard(staged);
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                attachmentStorage.discard(staged);
+                throw e;
+            }
+            attachmentStorage.discardUpload(id);
+            return attachment;
+        } finally {
+            busySessions.remove(id);
+        }
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cancel(String id, Long uploaderId) throws IOException {
+        acquire(id);
+        try {
+            findSession(id, uploaderId);
+            sessionRepository.deleteById(id);
+            attachmentStorage.discardUpload(id);
+        } finally {
+            busySessions.remove(id);
+        }
+    }
+    
+    // 만료된 세션과 파일 삭제, 세션 없이 남은 임시 파일도 같은 기준으로 정리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int expireSessions() throws IOException {
+        int expired = 0;
+        for (String id : sessionRepository.findExpiredIds(LocalDateTime.now())) {
+            if (!busySessions.add(id)) {
+                continue;
+            }
+            try {
+                sessionRepository.deleteById(id);
+                attachmentStorage.discardUpload(id);
+                expired++;
+            } finally {
+                busySessions.remove(id);
+            }
+        }
+        attachmentStorage.sweepStaging(Instant.now().minus(expireAfter));
+        return expired;
+    }
+    
+    private FileAttachment attachAndClose(UploadSession session, StagedFile staged) {
+        try {
+            FileAttachment attachment = attachmentBlobService.attach(session.getPostId(), staged, session.getFileName(),
+                    session.getContentType());
+            sessionRepository.deleteById(session.getId());
+            return attachment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void acquire(String id) {
+        if (!busySessions.add(id)) {
+            throw new IllegalStateException("같은 업로드 세션의 다른 요청을 처리하는 중입니다");
+        }
+    }
+    
+    private UploadSession findSession(String id, Long uploaderId) {
+        UploadSession session = sessionRepository.findById(id)
+                .filter(s -> !s.isExpired(LocalDateTime.now()))
+                .orElseThrow(() -> new NoSuchElementException("업로드 세션을 찾을 수 없습니다"));
+        if (!session.getUploaderId().equals(uploaderId)) {
+            throw new AccessDeniedException("업로드 세션에 접근할 권한이 없습니다");
+        }
+        return session;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.infrastructure.board.PostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 게시글 comment_count 보정 작업 - 주기적으로 실제 댓글 수와 맞춤 (기존 게시글 백필은 마이그레이션에서 처리)
+@Component
+public class CommentCountRepairJob {
+    
+    private final PostRepository postRepository;
+    
+    @Autowired
+    public CommentCountRepairJob(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+    
+    @Scheduled(cron = "${board.comment-count.repair-cron:0 30 4 * * *}")
+    @Transactional
+    public void repair() {
+        postRepository.recountCommentCounts();
+    }
+}
\ No newline at end of file
@@ -1,25 +1,30 @@
 package com.lms.backend.application.board;
 
 import com.lms.backend.domain.board.FileAttachment;
-import com.lms.backend.domain.board.Post;
 import com.lms.backend.infrastructure.board.FileAttachmentRepository;
 import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.FileIoExecutor;
+import com.lms.backend.infrastructure.file.MultipartStream;
+import com.lms.backend.infrastructure.file.StagedFile;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Transactional
@@ -27,60 +32,138 @@ public class FileUploadService {
     
     private final FileAttachmentRepository fileAttachmentRepository;
     private final PostRepository postRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentBlobService attachmentBlobService;
+    private final FileIoExecutor fileIoExecutor;
     
-    @Value("${file.upload.directory:uploads}")
-    private String uploadDirectory;
+    @Value("${file.upload.max-size:10MB}")
+    private DataSize maxFileSize;
     
     @Autowired
-    public FileUploadService(FileAttachmentRepository fileAttachmentRepository, PostRepository postRepository) {
+    public FileUploadService(FileAttachmentRepository fileAttachmentRepository, PostRepository postRepository,
+                             AttachmentStorage attachmentStorage, AttachmentBlobService attachmentBlobService,
+                             FileIoExecutor fileIoExecutor) {
         this.fileAttachmentRepository = fileAttachmentRepository;
         this.postRepository = postRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.attachmentBlobService = attachmentBlobService;
+        this.fileIoExecutor = fileIoExecutor;
     }
     
     public FileAttachment uploadFile(MultipartFile file, Long postId) throws IOException {
         validateFile(file);
         
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found with id: " + postId));
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found with id: " + postId);
+        }
         
-        String originalFileName = file.getOriginalFilename();
-        String storedFileName = generateUniqueFileName(originalFileName);
-        String contentType = file.getContentType();
-        long fileSize = file.getSize();
+        StagedFile staged = stage(file);
+        return attach(postId, staged, file.getOriginalFilename(), file.getContentType());
+    }
+    
+    // multipart 본문을 읽으면서 바로 저장소에 기록 (multipart 임시 파일/메모리 버퍼링 없음)
+    // 업로드 중에는 트랜잭션을 열지 않고, 디스크 반영(fsync) 후 짧은 트랜잭션으로 첨부 행만 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileAttachment uploadFileStream(Long postId, String requestContentType, InputStream body) throws IOException {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found with id: " + postId);
+        }
         
-        Path uploadPath = Paths.get(uploadDirectory);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        MultipartStream multipart = new MultipartStream(body, MultipartStream.boundaryOf(requestContentType));
+        MultipartStream.Part part;
+        while ((part = multipart.next()) != null) {
+            if ("file".equals(part.getName()) && part.getFileName() != null) {
+                return storeStreamedFile(part, postId);
+            }
+        }
+        throw new RuntimeException("File part is missing");
+    }
+    
+    private FileAttachment storeStreamedFile(MultipartStream.Part part, Long postId) throws IOException {
+        String contentType = part.getContentType();
+        if (contentType == null || !isAllowedContentType(contentType)) {
+            throw new RuntimeException("File type not allowed: " + contentType);
         }
         
-        Path filePath = uploadPath.resolve(storedFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        StagedFile staged = attachmentStorage.stage(part.getBody(), maxFileSize.toBytes());
+        if (staged.getSize() == 0) {
+            attachmentStorage.discard(staged);
+            throw new RuntimeException("File is empty");
+        }
+        return attach(postId, staged, part.getFileName(), contentType);
+    }
+    
+    // 같은 내용이 이미 저장되어 있으면 원본 참조만 추가, 실패하면 임시 파일 정리
+    private FileAttachment attach(Long postId, StagedFile staged, String originalFileName, String contentType) throws IOException {
+        try {
+            return attachmentBlobService.attach(postId, staged, originalFileName, contentType);
+        } catch (IOException | RuntimeException e) {
+            attachmentStorage.discard(staged);
+            throw e;
+        }
+    }
+    
+    // 파일별 기록은 I/O 실행기에서 동시에 하고 첨부는 한 트랜잭션에서 일괄 저장
+    // 하나라도 실패하면 전부 취소하고 임시 파일 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FileAttachment> uploadFiles(List<MultipartFile> files, Long postId) throws IOException {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        for (MultipartFile file : files) {
+            validateFile(file);
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found with id: " + postId);
+        }
         
-        FileAttachment fileAttachment = new FileAttachment(
-                originalFileName,
-                storedFileName,
-                filePath.toString(),
-                fileSize,
-                contentType
-        );
+        List<CompletableFuture<StagedFile>> pending = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            pending.add(fileIoExecutor.submit(() -> stage(file)));
+        }
+        
+        // 실패가 있어도 나머지 기록이 끝날 때까지 기다려 모두 정리
+        List<StagedFile> staged = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                staged.add(pending.get(i).join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                            : new RuntimeException("Failed to upload file: " + files.get(i).getOriginalFilename(), e.getCause());
+                }
+            }
+        }
         
-        post.addAttachment(fileAttachment);
-        return fileAttachmentRepository.save(fileAttachment);
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            List<String> originalFileNames = new ArrayList<>(files.size());
+            List<String> contentTypes = new ArrayList<>(files.size());
+            for (MultipartFile file : files) {
+                originalFileNames.add(file.getOriginalFilename());
+                contentTypes.add(file.getContentType());
+            }
+            return attachmentBlobService.attachAll(postId, staged, originalFileNames, contentTypes);
+        } catch (IOException | RuntimeException e) {
+            for (StagedFile file : staged) {
+                attachmentStorage.discard(file);
+            }
+            throw e;
+        }
     }
     
-    public List<FileAttachment> uploadFiles(List<MultipartFile> files, Long postId) throws IOException {
-        return files.stream()
-                .map(file -> {
-                    try {
-                        return uploadFile(file, postId);
-                    } catch (IOException e) {
-                        throw new RuntimeException("Failed to upload file: " + file.getOriginalFilename(), e);
-                    }
-                })
-                .collect(java.util.stream.Collectors.toList());
+    private StagedFile stage(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return attachmentStorage.stage(in, maxFileSize.toBytes());
+        }
     }
     
-    public Resource downloadFile(Long fileId) throws IOException {
+    // 다운로드 대상 확인 (전송은 컨트롤러에서 Range 요청에 맞춰 파일 채널로 처리)
+    @Transactional(readOnly = true)
+    public FileAttachment getDownloadableFile(Long fileId) {
         FileAttachment fileAttachment = fileAttachmentRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("File not found with id: " + fileId));
         
@@ -89,29 +172,18 @@ public class FileUploadService {
         if (!Files.exists(filePath)) {
             throw new RuntimeException("File not found on disk: " + fileAttachment.getOriginalFileName());
         }
-        
-        try {
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new RuntimeException("File not readable: " + fileAttachment.getOriginalFileName());
-            }
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("File path is invalid: " + fileAttachment.getOriginalFileName(), e);
+        if (!Files.isReadable(filePath)) {
+            throw new RuntimeException("File not readable: " + fileAttachment.getOriginalFileName());
         }
+        return fileAttachment;
     }
     
+    // 원본 파일은 마지막 참조가 삭제될 때 커밋 후 삭제
     public void deleteFile(Long fileId) throws IOException {
         FileAttachment fileAttachment = fileAttachmentRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("File not found with id: " + fileId));
         
-        Path filePath = Paths.get(fileAttachment.getFilePath());
-        if (Files.exists(filePath)) {
-            Files.delete(filePath);
-        }
-        
-        fileAttachmentRepository.delete(fileAttachment);
+        attachmentBlobService.detach(fileAttachment);
     }
     
     private void validateFile(MultipartFile file) {
@@ -119,8 +191,8 @@ public class FileUploadService {
             throw new RuntimeException("File is empty");
         }
         
-        if (file.getSize() > 10 * 1024 * 1024) { // 10MB limit
-            throw new RuntimeException("File size exceeds 10MB limit");
+        if (file.getSize() > maxFileSize.toBytes()) {
+            throw new RuntimeException("File size exceeds " + maxFileSize.toMegabytes() + "MB limit");
         }
         
         String contentType = file.getContentType();
@@ -129,7 +201,7 @@ public class FileUploadService {
         }
     }
     
-    private boolean isAllowedContentType(String contentType) {
+    static boolean isAllowedContentType(String contentType) {
         return contentType.startsWith("image/") ||
                contentType.startsWith("application/pdf") ||
                contentType.startsWith("application/msword") ||
@@ -138,15 +210,4 @@ public class FileUploadService {
                contentType.startsWith("application/zip") ||
                contentType.startsWith("application/x-zip-compressed");
     }
-    
-    private String generateUniqueFileName(String originalFileName) {
-        String uuid = UUID.randomUUID().toString();
-        String extension = "";
-        
-        if (originalFileName != null && originalFileName.contains(".")) {
-            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        }
-        
-        return uuid + extension;
-    }
 }
\ No newline at end of file
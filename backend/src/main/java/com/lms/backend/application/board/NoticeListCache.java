@@ -0,0 +1,104 @@
+package com.lms.backend.application.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 공지 목록 응답 캐시 - 직렬화된 JSON 바이트와 ETag를 보관, 공지 작성/수정/삭제 커밋 시 전체 무효화
+// 조회수/댓글 수는 캐시 시점 값이므로 TTL로 갱신 주기를 제한
+@Component
+public class NoticeListCache {
+    
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final int maxPageSize;
+    private final Cache<String, CachedResponse> cache;
+    // 무효화 세대 - 무효화 이전에 읽기 시작한 응답이 무효화 이후에 저장되지 않도록 함
+    private final AtomicLong generation = new AtomicLong();
+    
+    @Autowired
+    public NoticeListCache(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${board.notice-cache.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${board.notice-cache.max-pages:3}") int maxPages,
+                           @Value("${board.notice-cache.max-page-size:50}") int maxPageSize) {
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "noticeLists");
+    }
+    
+    // 첫 몇 페이지만 캐시 (임의의 page/size 조합으로 캐시가 채워지지 않도록 제한)
+    public boolean cachesPage(int page, int size) {
+        return page >= 0 && page < maxPages && size > 0 && size <= maxPageSize;
+    }
+    
+    public CachedResponse get(String key, Supplier<?> loader) {
+        long current = generation.get();
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.generation == current) {
+            return cached;
+        }
+        
+        CachedResponse loaded = new CachedResponse(serialize(loader.get()), current);
+        if (generation.get() == current) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getBoardType() == BoardType.NOTICE) {
+            invalidateAll();
+        }
+    }
+    
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공지 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+    
+    public static class CachedResponse {
+        
+        private final byte[] body;
+        private final String etag;
+        private final long generation;
+        
+        private CachedResponse(byte[] body, long generation) {
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            this.generation = generation;
+        }
+        
+        public byte[] getBody() { return body; }
+        public String getEtag() { return etag; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.domain.board.PostChangedEvent;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.PostSearchDocument;
+import com.lms.backend.infrastructure.board.PostSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 게시글 검색 인덱스 동기화 - 인덱스는 디스크에 유지하고 게시글 변경 이벤트로 증분 반영
+// 기동 시에는 기동 스레드 밖에서 인덱스가 없을 때만 전체 색인하고, 있으면 마지막 커밋 이후 수정된 게시글만 다시 색인
+// (서버가 내려가 있는 동안 삭제된 게시글은 검색 결과 조회 시 제외되고 관리자 재색인 때 인덱스에서도 삭제됨)
+@Component
+public class PostSearchIndexer {
+    
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 커밋 시점에 DB에는 반영되었지만 아직 이벤트로 색인되지 않은 변경도 다음 기동 때 다시 색인되도록 여유를 둠
+    private static final Duration SYNC_MARGIN = Duration.ofMinutes(5);
+    
+    private final PostSearchIndex searchIndex;
+    private final PostRepository postRepository;
+    // 재색인 중 변경된 게시글 ID (재색인 중이 아니면 null)
+    private volatile Set<Long> changedDuringRebuild;
+    // 기동 후 첫 색인이 끝나기 전에는 동기화 시점을 앞당기는 커밋을 하지 않음
+    private volatile boolean synced;
+    
+    @Autowired
+    public PostSearchIndexer(PostSearchIndex searchIndex, PostRepository postRepository) {
+        this.searchIndex = searchIndex;
+        this.postRepository = postRepository;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::initialize, "post-search-indexer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    void initialize() {
+        Instant syncedAt = searchIndex.getSyncedAt();
+        if (syncedAt == null) {
+            rebuild();
+        } else {
+            catchUp(syncedAt);
+        }
+    }
+    
+    // 전체 재색인 (인덱스가 없을 때, 관리자 요청 시)
+    public synchronized void rebuild() {
+        Instant startedAt = Instant.now();
+        // 기존 문서를 ID 기준으로 덮어쓰므로 재색인 중에도 검색 결과가 비지 않음
+        long generation = searchIndex.beginRebuild();
+        reindex(afterId -> postRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+        searchIndex.finishRebuild(generation);
+        commitSynced(startedAt);
+    }
+    
+    // 마지막 커밋 이후 작성/수정된 게시글만 다시 색인
+    synchronized void catchUp(Instant since) {
+        Instant startedAt = Instant.now();
+        LocalDateTime updatedSince = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        reindex(afterId -> postRepository.findSearchDocumentsUpdatedSince(updatedSince, afterId,
+                PageRequest.of(0, REBUILD_BATCH_SIZE)));
+        searchIndex.refresh();
+        commitSynced(startedAt);
+    }
+    
+    // 색인 변경을 주기적으로 디스크에 반영
+    @Scheduled(fixedDelayString = "${board.search-index.commit-interval-ms:60000}")
+    public void commit() {
+        if (synced) {
+            searchIndex.commit(Instant.now().minus(SYNC_MARGIN));
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(event.getPostId());
+        }
+        if (event.isDeleted()) {
+            searchIndex.delete(event.getPostId());
+            return;
+        }
+        sync(event.getPostId());
+    }
+    
+    private void reindex(Function<Long, List<PostSearchDocument>> batches) {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            long afterId = 0L;
+            List<PostSearchDocument> batch;
+            do {
+                batch = batches.apply(afterId);
+                searchIndex.indexAll(batch);
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } finally {
+            changedDuringRebuild = null;
+        }
+        // 재색인 배치가 덮어썼을 수 있는 변경분은 DB 최신 상태로 다시 반영
+        changed.forEach(this::sync);
+    }
+    
+    private void commitSynced(Instant startedAt) {
+        searchIndex.commit(startedAt.minus(SYNC_MARGIN));
+        synced = true;
+    }
+    
+    private void sync(Long postId) {
+        Optional<PostSearchDocument> document = postRepository.findSearchDocumentById(postId);
+        if (document.isPresent()) {
+            searchIndex.index(document.get());
+        } else {
+            searchIndex.delete(postId);
+        }
+    }
+}
\ No newline at end of file
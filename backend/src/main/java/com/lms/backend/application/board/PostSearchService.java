@@ -0,0 +1,60 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.application.board.dto.PostResponse;
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.PostSearchIndex;
+import com.lms.backend.infrastructure.board.PostSummary;
+import com.lms.backend.infrastructure.search.SearchHits;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 게시글 키워드 검색 - 검색 인덱스에서 관련도 순 ID를 찾고 목록 프로젝션으로 한 번에 조회
+@Service
+@Transactional(readOnly = true)
+public class PostSearchService {
+    
+    private final PostSearchIndex searchIndex;
+    private final PostRepository postRepository;
+    
+    @Autowired
+    public PostSearchService(PostSearchIndex searchIndex, PostRepository postRepository) {
+        this.searchIndex = searchIndex;
+        this.postRepository = postRepository;
+    }
+    
+    public Page<PostResponse> search(BoardType boardType, String keyword, UserPrincipal viewer,
+                                     boolean readableOnly, Pageable pageable) {
+        Long viewerId = viewer != null ? viewer.getId() : BoardService.ANONYMOUS_VIEWER_ID;
+        boolean isAdmin = viewer != null && viewer.isAdmin();
+        
+        // 본문이 압축 저장되어 DB LIKE로는 찾을 수 없으므로 모든 키워드 검색은 인덱스 사용
+        SearchHits hits = searchIndex.search(boardType, keyword, viewerId, isAdmin, readableOnly,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits == null) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0); // 검색 가능한 글자가 없는 검색어
+        }
+        if (hits.getIds().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, hits.getTotalHits());
+        }
+        
+        Map<Long, PostResponse> rows = postRepository
+                .findSummariesForViewerByIdIn(hits.getIds(), viewerId, isAdmin).stream()
+                .collect(Collectors.toMap(PostSummary::getId, PostResponse::new));
+        List<PostResponse> ordered = hits.getIds().stream()
+                .map(rows::get)
+                .filter(row -> row != null) // 색인 반영 전에 삭제된 게시글 제외
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, pageable, hits.getTotalHits());
+    }
+}
\ No newline at end of file
@@ -2,12 +2,17 @@ package com.lms.backend.application.board;
 
 import com.lms.backend.application.board.dto.PostRequest;
 import com.lms.backend.application.board.dto.PostResponse;
+import com.lms.backend.application.user.UserPrincipal;
 import com.lms.backend.domain.board.BoardType;
 import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.board.PostChangedEvent;
 import com.lms.backend.domain.user.User;
 import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.PostUniqueViewerTracker;
+import com.lms.backend.infrastructure.board.PostViewCountBuffer;
 import com.lms.backend.infrastructure.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,11 +27,26 @@ public class PostService {
     
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostUniqueViewerTracker uniqueViewerTracker;
+    private final PostSearchService postSearchService;
+    private final BoardStatsService boardStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttachmentBlobService attachmentBlobService;
     
     @Autowired
-    public PostService(PostRepository postRepository, UserRepository userRepository) {
+    public PostService(PostRepository postRepository, UserRepository userRepository,
+                       PostViewCountBuffer viewCountBuffer, PostUniqueViewerTracker uniqueViewerTracker,
+                       PostSearchService postSearchService, BoardStatsService boardStatsService,
+                       ApplicationEventPublisher eventPublisher, AttachmentBlobService attachmentBlobService) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
+        this.viewCountBuffer = viewCountBuffer;
+        this.uniqueViewerTracker = uniqueViewerTracker;
+        this.postSearchService = postSearchService;
+        this.boardStatsService = boardStatsService;
+        this.eventPublisher = eventPublisher;
+        this.attachmentBlobService = attachmentBlobService;
     }
     
     public PostResponse createPost(PostRequest request, Long authorId) {
@@ -42,76 +62,100 @@ public class PostService {
         }
         
         Post savedPost = postRepository.save(post);
+        boardStatsService.postCreated(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), savedPost.getBoardType(), false));
         return new PostResponse(savedPost);
     }
     
     @Transactional(readOnly = true)
     public Page<PostResponse> getPosts(BoardType boardType, String keyword, Pageable pageable) {
-        Page<Post> posts;
+        Page<PostResponse> posts;
         
         if (keyword != null && !keyword.trim().isEmpty()) {
-            posts = postRepository.findByBoardTypeAndKeywordContaining(boardType, keyword.trim(), pageable);
+            posts = postSearchService.search(boardType, keyword.trim(), null, false, pageable);
         } else {
-            posts = postRepository.findByBoardTypeOrderByCreatedAtDesc(boardType, pageable);
+            posts = postRepository.findSummariesByBoardType(boardType, pageable).map(PostResponse::new);
         }
         
-        return posts.map(PostResponse::summary);
+        uniqueViewerTracker.preload(posts.map(PostResponse::getId).getContent());
+        return posts.map(this::withLiveCounts);
     }
     
     @Transactional(readOnly = true)
     public List<PostResponse> getNotices(BoardType boardType) {
-        List<Post> notices = postRepository.findByBoardTypeAndIsNoticeOrderByCreatedAtDesc(boardType, true);
+        List<PostResponse> notices = postRepository.findNoticeSummariesByBoardType(boardType).stream()
+                .map(PostResponse::new)
+                .collect(Collectors.toList());
+        uniqueViewerTracker.preload(notices.stream().map(PostResponse::getId).collect(Collectors.toList()));
         return notices.stream()
-                .map(PostResponse::summary)
+                .map(this::withLiveCounts)
                 .collect(Collectors.toList());
     }
     
-    @Transactional
-    public PostResponse getPost(Long id, User currentUser) {
+    @Transactional(readOnly = true)
+    public PostResponse getPost(Long id, UserPrincipal currentUser, long viewerFingerprint) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다"));
         
         // 비밀글 접근 권한 확인
-        if (!post.canView(currentUser)) {
+        boolean canView = currentUser != null
+                ? post.canView(currentUser.getId(), currentUser.isAdmin())
+                : post.canView(null, false);
+        if (!canView) {
             throw new IllegalArgumentException("게시글을 볼 권한이 없습니다");
         }
         
-        // 조회수 증가
-        post.incrementViewCount();
-        postRepository.save(post);
+        // 조회수 증가 (버퍼에 누적 후 일괄 반영)
+        viewCountBuffer.increment(post.getId());
+        uniqueViewerTracker.recordView(post.getId(), viewerFingerprint);
         
-        return new PostResponse(post);
+        PostResponse response = new PostResponse(post);
+        response.setViewCount(currentViewCount(post));
+        response.setUniqueViewCount(uniqueViewerTracker.estimate(post.getId()));
+        return response;
     }
     
-    public PostResponse updatePost(Long id, PostRequest request, User currentUser) {
+    public PostResponse updatePost(Long id, PostRequest request, UserPrincipal currentUser) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다"));
         
         // 수정 권한 확인
-        if (!post.canEdit(currentUser)) {
+        if (!post.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new IllegalArgumentException("게시글을 수정할 권한이 없습니다");
         }
         
         post.updateContent(request.getTitle(), request.getContent());
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), savedPost.getBoardType(), false));
         
         return new PostResponse(savedPost);
     }
     
-    public void deletePost(Long id, User currentUser) {
+    public void deletePost(Long id, UserPrincipal currentUser) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다"));
         
         // 삭제 권한 확인 (수정 권한과 동일)
-        if (!post.canEdit(currentUser)) {
+        if (!post.canEdit(currentUser.getId(), currentUser.isAdmin())) {
             throw new IllegalArgumentException("게시글을 삭제할 권한이 없습니다");
         }
         
+        attachmentBlobService.releaseAll(post);
         postRepository.delete(post);
+        boardStatsService.postDeleted(post);
+        uniqueViewerTracker.forget(id);
+        eventPublisher.publishEvent(new PostChangedEvent(id, post.getBoardType(), true));
     }
     
-    @Transactional(readOnly = true)
-    public long getPostCount(BoardType boardType) {
-        return postRepository.countByBoardType(boardType);
+    // 목록 응답에 메모리에 누적된 조회수/고유 조회자 수 반영
+    private PostResponse withLiveCounts(PostResponse response) {
+        response.setViewCount((int) (response.getViewCount() + viewCountBuffer.getPending(response.getId())));
+        response.setUniqueViewCount(uniqueViewerTracker.estimate(response.getId()));
+        return response;
+    }
+    
+    // 저장된 조회수 + 아직 반영되지 않은 조회수
+    private int currentViewCount(Post post) {
+        return (int) (post.getViewCount() + viewCountBuffer.getPending(post.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.lms.backend.application.board;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 중단된 이어 올리기 세션 정리 - 만료 시각이 지난 세션의 미리 할당한 파일과 임시 파일 삭제
+@Component
+public class UploadSessionCleanupJob {
+    
+    private final ChunkedUploadService chunkedUploadService;
+    
+    @Autowired
+    public UploadSessionCleanupJob(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+    
+    @Scheduled(fixedDelayString = "${file.upload.chunked.cleanup-interval-ms:3600000}")
+    public void cleanup() throws IOException {
+        chunkedUploadService.expireSessions();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.application.user.UserPrincipal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 고유 조회자 식별값 - 로그인 사용자는 사용자 ID, 비로그인은 IP + User-Agent 기준
+public final class ViewerFingerprint {
+    
+    private ViewerFingerprint() {}
+    
+    public static long of(UserPrincipal viewer, String clientAddress, String userAgent) {
+        if (viewer != null) {
+            return mix(viewer.getId());
+        }
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest((clientAddress + "|" + userAgent).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    // 연속된 사용자 ID를 64비트 전체에 고르게 분산 (MurmurHash3 fmix64)
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb3fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.lms.backend.application.board.dto;
+
+import com.lms.backend.domain.board.BoardStats;
+import com.lms.backend.domain.board.BoardType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class BoardStatsResponse {
+    
+    private BoardType boardType;
+    private String boardTypeName;
+    private long totalPosts;
+    private long postsToday;
+    private long secretPosts;
+    private long unansweredPosts;
+    private LocalDateTime reconciledAt;
+    
+    public BoardStatsResponse() {}
+    
+    public BoardStatsResponse(BoardType boardType, long totalPosts, long postsToday, long secretPosts,
+                              long unansweredPosts, LocalDateTime reconciledAt) {
+        this.boardType = boardType;
+        this.boardTypeName = boardType.getDisplayName();
+        this.totalPosts = totalPosts;
+        this.postsToday = postsToday;
+        this.secretPosts = secretPosts;
+        this.unansweredPosts = unansweredPosts;
+        this.reconciledAt = reconciledAt;
+    }
+    
+    public static BoardStatsResponse from(BoardStats stats, LocalDate today) {
+        return new BoardStatsResponse(
+            stats.getBoardType(),
+            stats.getTotalPosts(),
+            stats.getPostsOn(today),
+            stats.getSecretPosts(),
+            stats.getUnansweredPosts(),
+            stats.getReconciledAt()
+        );
+    }
+    
+    // Getters
+    public BoardType getBoardType() { return boardType; }
+    public String getBoardTypeName() { return boardTypeName; }
+    public long getTotalPosts() { return totalPosts; }
+    public long getPostsToday() { return postsToday; }
+    public long getSecretPosts() { return secretPosts; }
+    public long getUnansweredPosts() { return unansweredPosts; }
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+}
\ No newline at end of file
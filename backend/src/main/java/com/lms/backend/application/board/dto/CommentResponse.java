@@ -1,6 +1,7 @@
 package com.lms.backend.application.board.dto;
 
 import com.lms.backend.domain.board.Comment;
+import com.lms.backend.infrastructure.board.CommentSummary;
 
 import java.time.LocalDateTime;
 
@@ -25,6 +26,11 @@ public class CommentResponse {
         this.updatedAt = updatedAt;
     }
     
+    public CommentResponse(CommentSummary summary) {
+        this(summary.getId(), summary.getContent(), summary.getAuthorName(), summary.getAuthorId(),
+             summary.getCreatedAt(), summary.getUpdatedAt());
+    }
+    
     public static CommentResponse fromComment(Comment comment) {
         return new CommentResponse(
             comment.getId(),
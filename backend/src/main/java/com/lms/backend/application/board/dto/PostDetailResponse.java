@@ -15,10 +15,13 @@ public class PostDetailResponse {
     private Boolean isNotice;
     private Boolean isSecret;
     private Integer viewCount;
+    private Long uniqueViewCount;
     private String authorName;
     private Long authorId;
     private List<FileAttachmentResponse> attachments;
     private List<CommentResponse> comments;
+    private Integer commentCount;
+    private String commentsNextCursor;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -71,10 +74,18 @@ public class PostDetailResponse {
     public Boolean getIsNotice() { return isNotice; }
     public Boolean getIsSecret() { return isSecret; }
     public Integer getViewCount() { return viewCount; }
+    public void setViewCount(Integer viewCount) { this.viewCount = viewCount; }
+    public Long getUniqueViewCount() { return uniqueViewCount; }
+    public void setUniqueViewCount(Long uniqueViewCount) { this.uniqueViewCount = uniqueViewCount; }
     public String getAuthorName() { return authorName; }
     public Long getAuthorId() { return authorId; }
     public List<FileAttachmentResponse> getAttachments() { return attachments; }
     public List<CommentResponse> getComments() { return comments; }
+    public Integer getCommentCount() { return commentCount; }
+    public void setCommentCount(Integer commentCount) { this.commentCount = commentCount; }
+    // 상세에는 앞쪽 댓글만 포함, 나머지는 댓글 목록 API로 이어서 조회
+    public String getCommentsNextCursor() { return commentsNextCursor; }
+    public void setCommentsNextCursor(String commentsNextCursor) { this.commentsNextCursor = commentsNextCursor; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 }
\ No newline at end of file
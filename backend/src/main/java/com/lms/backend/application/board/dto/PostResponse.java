@@ -2,6 +2,7 @@ package com.lms.backend.application.board.dto;
 
 import com.lms.backend.domain.board.BoardType;
 import com.lms.backend.domain.board.Post;
+import com.lms.backend.infrastructure.board.PostSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,10 +17,12 @@ public class PostResponse {
     private Boolean isNotice;
     private Boolean isSecret;
     private Integer viewCount;
+    private Long uniqueViewCount;
     private String authorName;
     private Long authorId;
     private List<FileAttachmentResponse> attachments;
     private int commentCount;
+    private Boolean visible;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -38,11 +41,27 @@ public class PostResponse {
         this.attachments = post.getAttachments().stream()
                 .map(FileAttachmentResponse::new)
                 .collect(Collectors.toList());
-        this.commentCount = post.getComments().size();
+        this.commentCount = post.getCommentCount();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
     }
     
+    // 목록 조회용 요약 프로젝션에서 생성 (Q&A 목록은 열람 가능 여부 포함)
+    public PostResponse(PostSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.boardType = summary.getBoardType();
+        this.isNotice = summary.getIsNotice();
+        this.isSecret = summary.getIsSecret();
+        this.viewCount = summary.getViewCount();
+        this.authorName = summary.getAuthorName();
+        this.authorId = summary.getAuthorId();
+        this.commentCount = summary.getCommentCount();
+        this.createdAt = summary.getCreatedAt();
+        this.updatedAt = summary.getUpdatedAt();
+        this.visible = summary.getVisible();
+    }
+    
     // Summary constructor for list view (without content and attachments)
     public static PostResponse summary(Post post) {
         PostResponse response = new PostResponse();
@@ -54,7 +73,7 @@ public class PostResponse {
         response.viewCount = post.getViewCount();
         response.authorName = post.getAuthor().getName();
         response.authorId = post.getAuthor().getId();
-        response.commentCount = post.getComments().size();
+        response.commentCount = post.getCommentCount();
         response.createdAt = post.getCreatedAt();
         response.updatedAt = post.getUpdatedAt();
         return response;
@@ -91,6 +110,10 @@ public class PostResponse {
     public List<FileAttachmentResponse> getAttachments() { return attachments; }
     public void setAttachments(List<FileAttachmentResponse> attachments) { this.attachments = attachments; }
     
+    public Long getUniqueViewCount() { return uniqueViewCount; }
+    public void setUniqueViewCount(Long uniqueViewCount) { this.uniqueViewCount = uniqueViewCount; }
+    public Boolean getVisible() { return visible; }
+    public void setVisible(Boolean visible) { this.visible = visible; }
     public int getCommentCount() { return commentCount; }
     public void setCommentCount(int commentCount) { this.commentCount = commentCount; }
     
@@ -0,0 +1,37 @@
+package com.lms.backend.application.board.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+// 이어 올리기 업로드 세션 생성 요청 (전체 크기를 미리 지정)
+public class UploadSessionRequest {
+    
+    @NotNull(message = "게시글 ID는 필수입니다.")
+    private Long postId;
+    
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    private String fileName;
+    
+    @NotBlank(message = "파일 형식은 필수입니다.")
+    private String contentType;
+    
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long length;
+    
+    public UploadSessionRequest() {}
+    
+    // Getters and Setters
+    public Long getPostId() { return postId; }
+    public void setPostId(Long postId) { this.postId = postId; }
+    
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    
+    public Long getLength() { return length; }
+    public void setLength(Long length) { this.length = length; }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.lms.backend.application.board.dto;
+
+import com.lms.backend.domain.board.UploadSession;
+
+import java.time.LocalDateTime;
+
+public class UploadSessionResponse {
+    
+    private String id;
+    private String uploadUrl;
+    private long offset;
+    private long length;
+    private LocalDateTime expiresAt;
+    
+    public UploadSessionResponse() {}
+    
+    public UploadSessionResponse(UploadSession session) {
+        this.id = session.getId();
+        this.uploadUrl = "/api/files/uploads/" + session.getId();
+        this.offset = session.getOffset();
+        this.length = session.getLength();
+        this.expiresAt = session.getExpiresAt();
+    }
+    
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getUploadUrl() { return uploadUrl; }
+    public void setUploadUrl(String uploadUrl) { this.uploadUrl = uploadUrl; }
+    
+    public long getOffset() { return offset; }
+    public void setOffset(long offset) { this.offset = offset; }
+    
+    public long getLength() { return length; }
+    public void setLength(long length) { this.length = length; }
+    
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
\ No newline at end of file
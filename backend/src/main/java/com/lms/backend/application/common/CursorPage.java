@@ -0,0 +1,19 @@
+package com.lms.backend.application.common;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 - 전체 건수 없이 다음 페이지 커서만 제공
+public class CursorPage<T> {
+    
+    private final List<T> items;
+    private final String nextCursor;
+    
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+}
\ No newline at end of file
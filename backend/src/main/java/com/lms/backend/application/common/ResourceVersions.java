@@ -0,0 +1,100 @@
+package com.lms.backend.application.common;
+
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.CommentChangedEvent;
+import com.lms.backend.domain.board.PostChangedEvent;
+import com.lms.backend.domain.common.ResourceVersion;
+import com.lms.backend.domain.course.CourseChangedEvent;
+import com.lms.backend.infrastructure.common.ResourceVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시판별/과정 카탈로그 버전 - 쓰기 트랜잭션 안(커밋 직전)에서 resource_versions 행을 증가시켜
+// 모든 인스턴스가 같은 버전을 보고 재시작 후에도 유지됨, 목록/상세의 ETag와 Last-Modified 계산에 사용
+@Component
+public class ResourceVersions {
+    
+    static final String CATALOG_SCOPE = "catalog";
+    
+    private final ResourceVersionRepository resourceVersionRepository;
+    
+    @Autowired
+    public ResourceVersions(ResourceVersionRepository resourceVersionRepository) {
+        this.resourceVersionRepository = resourceVersionRepository;
+    }
+    
+    public Version board(BoardType boardType) {
+        return read(boardScope(boardType));
+    }
+    
+    public Version catalog() {
+        return read(CATALOG_SCOPE);
+    }
+    
+    // 범위별 행 생성 (이미 있으면 유지)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        long now = System.currentTimeMillis();
+        for (BoardType boardType : BoardType.values()) {
+            createIfAbsent(boardScope(boardType), now);
+        }
+        createIfAbsent(CATALOG_SCOPE, now);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onPostChanged(PostChangedEvent event) {
+        resourceVersionRepository.increment(boardScope(event.getBoardType()), System.currentTimeMillis());
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onCommentChanged(CommentChangedEvent event) {
+        resourceVersionRepository.increment(boardScope(event.getBoardType()), System.currentTimeMillis());
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onCourseChanged(CourseChangedEvent event) {
+        resourceVersionRepository.increment(CATALOG_SCOPE, System.currentTimeMillis());
+    }
+    
+    private Version read(String scope) {
+        return resourceVersionRepository.findById(scope)
+                .map(version -> new Version(version.getVersion(), version.getLastModified()))
+                .orElse(Version.INITIAL);
+    }
+    
+    private void createIfAbsent(String scope, long now) {
+        if (!resourceVersionRepository.existsById(scope)) {
+            resourceVersionRepository.saveAndFlush(new ResourceVersion(scope, now));
+        }
+    }
+    
+    private static String boardScope(BoardType boardType) {
+        return "board:" + boardType.name();
+    }
+    
+    public static final class Version {
+        
+        // 행이 생성되기 전 (기동 직후)
+        static final Version INITIAL = new Version(0L, 0L);
+        
+        private final long value;
+        private final long lastModified;
+        
+        private Version(long value, long lastModified) {
+            this.value = value;
+            this.lastModified = lastModified;
+        }
+        
+        public long getValue() { return value; }
+        public long getLastModified() { return lastModified; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.lms.backend.application.course;
+
+import com.lms.backend.domain.course.Course;
+import com.lms.backend.domain.course.CourseChangedEvent;
+import com.lms.backend.infrastructure.course.CourseRepository;
+import com.lms.backend.infrastructure.course.CourseSearchIndex;
+import com.lms.backend.infrastructure.course.CourseSuggestTrie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 과정 검색 인덱스/자동완성 트라이 동기화 - 기동 시 DB에서 전체 색인, 이후 과정 변경 이벤트로 증분 반영
+@Component
+public class CourseSearchIndexer {
+    
+    private final CourseSearchIndex searchIndex;
+    private final CourseSuggestTrie suggestTrie;
+    private final CourseRepository courseRepository;
+    // 재색인 중 변경된 과정 ID (재색인 중이 아니면 null)
+    private volatile Set<Long> changedDuringRebuild;
+    
+    @Autowired
+    public CourseSearchIndexer(CourseSearchIndex searchIndex, CourseSuggestTrie suggestTrie, CourseRepository courseRepository) {
+        this.searchIndex = searchIndex;
+        this.suggestTrie = suggestTrie;
+        this.courseRepository = courseRepository;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            // 기존 문서/항목을 ID 기준으로 덮어쓰므로 재색인 중에도 검색/자동완성 결과가 비지 않음
+            long generation = searchIndex.beginRebuild();
+            List<Course> courses = courseRepository.findAll();
+            searchIndex.indexAll(courses);
+            searchIndex.finishRebuild(generation);
+            
+            courses.forEach(suggestTrie::index);
+            suggestTrie.retainOnly(courses.stream().map(Course::getId).collect(Collectors.toSet()));
+        } finally {
+            changedDuringRebuild = null;
+        }
+        // 재색인이 덮어썼을 수 있는 변경분은 DB 최신 상태로 다시 반영
+        changed.forEach(this::sync);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(event.getCourseId());
+        }
+        if (event.isDeleted()) {
+            searchIndex.delete(event.getCourseId());
+            suggestTrie.remove(event.getCourseId());
+            return;
+        }
+        sync(event.getCourseId());
+    }
+    
+    private void sync(Long courseId) {
+        Optional<Course> course = courseRepository.findById(courseId);
+        if (course.isPresent()) {
+            searchIndex.index(course.get());
+            suggestTrie.index(course.get());
+        } else {
+            searchIndex.delete(courseId);
+            suggestTrie.remove(courseId);
+        }
+    }
+}
\ No newline at end of file
@@ -1,53 +1,126 @@
 package com.lms.backend.application.course;
 
+import com.lms.backend.application.common.CursorPage;
+import com.lms.backend.application.common.KeysetCursor;
 import com.lms.backend.application.course.dto.*;
 import com.lms.backend.domain.course.Course;
+import com.lms.backend.domain.course.CourseChangedEvent;
 import com.lms.backend.domain.course.CourseStatus;
 import com.lms.backend.domain.course.Enrollment;
 import com.lms.backend.domain.course.EnrollmentStatus;
 import com.lms.backend.domain.user.User;
 import com.lms.backend.infrastructure.course.CourseRepository;
+import com.lms.backend.infrastructure.course.CourseSearchIndex;
 import com.lms.backend.infrastructure.course.EnrollmentRepository;
+import com.lms.backend.infrastructure.search.SearchHits;
 import com.lms.backend.infrastructure.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class CourseService {
     
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
+    private final CourseSearchIndex courseSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public CourseService(CourseRepository courseRepository, EnrollmentRepository enrollmentRepository, UserRepository userRepository) {
+    public CourseService(CourseRepository courseRepository, EnrollmentRepository enrollmentRepository, UserRepository userRepository,
+                         CourseSearchIndex courseSearchIndex, ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
         this.enrollmentRepository = enrollmentRepository;
         this.userRepository = userRepository;
+        this.courseSearchIndex = courseSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
     
     public Page<CourseResponse> getCourses(String category, CourseStatus status, String search, Pageable pageable) {
-        Page<Course> courses = courseRepository.findCoursesWithFilters(category, status, search, pageable);
+        if (search != null && !search.trim().isEmpty()) {
+            return searchCourses(category, status, search.trim(), pageable);
+        }
+        Page<Course> courses = courseRepository.findCoursesWithFilters(category, status, pageable);
         return courses.map(CourseResponse::from);
     }
     
+    // 검색 인덱스에서 관련도 순으로 조회 (한 글자/부분 단어도 인덱스에서 처리, 일치하는 과정이 없으면 빈 페이지)
+    private Page<CourseResponse> searchCourses(String category, CourseStatus status, String search, Pageable pageable) {
+        SearchHits hits = courseSearchIndex.search(search, category, status,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits == null) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0); // 검색 가능한 글자가 없는 검색어
+        }
+        if (hits.getIds().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, hits.getTotalHits());
+        }
+        
+        Map<Long, Course> courses = courseRepository.findAllById(hits.getIds()).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        List<CourseResponse> ordered = hits.getIds().stream()
+                .map(courses::get)
+                .filter(course -> course != null)
+                .map(CourseResponse::from)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, pageable, hits.getTotalHits());
+    }
+    
+    // 커서 기반 목록 - OFFSET/COUNT 없이 (created_at, id) 다음 위치부터 조회
+    public CursorPage<CourseResponse> getCoursesByCursor(String category, CourseStatus status, String search,
+                                                         String cursor, int size) {
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+        Slice<Course> courses;
+        if (cursor == null || cursor.isEmpty()) {
+            courses = courseRepository.findCourseSliceWithFilters(category, status, search, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            courses = courseRepository.findCourseSliceWithFiltersAfter(
+                    category, status, search, after.getCreatedAt(), after.getId(), limit);
+        }
+        
+        List<Course> content = courses.getContent();
+        String nextCursor = null;
+        if (courses.hasNext()) {
+            Course last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content.stream().map(CourseResponse::from).collect(Collectors.toList()), nextCursor);
+    }
+    
     public CourseResponse getCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         return CourseResponse.from(course);
     }
     
+    // 상세 조회 전 조건부 요청 검증용 수정 시각
+    public LocalDateTime getCourseUpdatedAt(Long id) {
+        return courseRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new RuntimeException("Course not found"));
+    }
+    
     @Transactional
     public CourseResponse createCourse(CourseRequest request) {
         Course course = request.toEntity();
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(savedCourse.getId(), false));
         return CourseResponse.from(savedCourse);
     }
     
@@ -69,6 +142,7 @@ public class CourseService {
         course.setImageUrl(request.getImageUrl());
         
         Course updatedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(updatedCourse.getId(), false));
         return CourseResponse.from(updatedCourse);
     }
     
@@ -77,6 +151,7 @@ public class CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(id, true));
     }
     
     @Transactional
@@ -105,6 +180,8 @@ public class CourseService {
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
         course.incrementEnrollment();
         courseRepository.save(course);
+        // 수강 인원/상태 변경을 검색 인덱스와 자동완성 순위에 반영
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(), false));
         
         return EnrollmentResponse.from(savedEnrollment);
     }
@@ -121,6 +198,7 @@ public class CourseService {
         Course course = enrollment.getCourse();
         course.decrementEnrollment();
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(), false));
         
         enrollmentRepository.delete(enrollment);
     }
@@ -144,6 +222,7 @@ public class CourseService {
         Course course = enrollment.getCourse();
         course.decrementEnrollment();
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(), false));
         
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
         return EnrollmentResponse.from(savedEnrollment);
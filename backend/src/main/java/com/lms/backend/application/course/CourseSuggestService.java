@@ -0,0 +1,24 @@
+package com.lms.backend.application.course;
+
+import com.lms.backend.infrastructure.course.CourseSuggestTrie;
+import com.lms.backend.infrastructure.course.CourseSuggestion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 검색창 자동완성 - 메모리 트라이에서만 조회 (DB/트랜잭션 없음)
+@Service
+public class CourseSuggestService {
+    
+    private final CourseSuggestTrie suggestTrie;
+    
+    @Autowired
+    public CourseSuggestService(CourseSuggestTrie suggestTrie) {
+        this.suggestTrie = suggestTrie;
+    }
+    
+    public List<CourseSuggestion> suggest(String query, int limit) {
+        return suggestTrie.suggest(query, Math.min(Math.max(limit, 1), CourseSuggestTrie.MAX_SUGGESTIONS));
+    }
+}
\ No newline at end of file
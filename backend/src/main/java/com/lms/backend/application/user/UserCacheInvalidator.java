@@ -0,0 +1,34 @@
+package com.lms.backend.application.user;
+
+import com.lms.backend.domain.user.UserAccountChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 사용자 승인/거절/정지/삭제 커밋 후, 로그인 시 캐시된 UserDetails 제거
+@Component
+public class UserCacheInvalidator {
+    
+    public static final String USER_DETAILS_CACHE = "userDetails";
+    
+    private final CacheManager cacheManager;
+    
+    @Autowired
+    public UserCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.getEmail());
+    }
+    
+    public void evict(String email) {
+        Cache cache = cacheManager.getCache(USER_DETAILS_CACHE);
+        if (cache != null) {
+            cache.evict(email);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.lms.backend.application.user;
+
+import com.lms.backend.application.user.dto.UserResponse;
+import com.lms.backend.domain.user.Authority;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 인증된 사용자 정보 (DB 조회 또는 JWT 클레임으로부터 생성)
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final String name;
+    private final UserStatus status;
+    private final int tokenEpoch;
+    private final List<GrantedAuthority> authorities;
+    private final UserResponse profile; // DB 조회로 생성된 경우에만 존재
+
+    public UserPrincipal(Long id, String email, String password, String name, UserStatus status,
+                         int tokenEpoch, Collection<String> roleNames, UserResponse profile) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.name = name;
+        this.status = status;
+        this.tokenEpoch = tokenEpoch;
+        this.authorities = Collections.unmodifiableList(roleNames.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList()));
+        this.profile = profile;
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getName(),
+                user.getStatus(),
+                user.getTokenEpoch(),
+                user.getAuthorities().stream()
+                        .map(authority -> authority.getRoleName())
+                        .collect(Collectors.toList()),
+                new UserResponse(user)
+        );
+    }
+
+    public List<String> getRoleNames() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    public boolean hasRole(String roleName) {
+        return authorities.stream().anyMatch(authority -> authority.getAuthority().equals(roleName));
+    }
+
+    public boolean isAdmin() {
+        return hasRole(Authority.ADMIN.getRoleName());
+    }
+
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getEmail() { return email; }
+    public String getName() { return name; }
+    public UserStatus getStatus() { return status; }
+    public int getTokenEpoch() { return tokenEpoch; }
+    public UserResponse getProfile() { return profile; }
+
+    // UserDetails
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
+
+    @Override
+    public String getPassword() { return password; }
+
+    @Override
+    public String getUsername() { return email; }
+
+    @Override
+    public boolean isAccountNonExpired() { return true; }
+
+    @Override
+    public boolean isAccountNonLocked() { return isActive(); }
+
+    @Override
+    public boolean isCredentialsNonExpired() { return true; }
+
+    @Override
+    public boolean isEnabled() { return isActive(); }
+}
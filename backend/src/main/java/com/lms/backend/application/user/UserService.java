@@ -3,9 +3,12 @@ package com.lms.backend.application.user;
 import com.lms.backend.application.user.dto.SignupRequest;
 import com.lms.backend.application.user.dto.UserResponse;
 import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserAccountChangedEvent;
 import com.lms.backend.domain.user.UserType;
 import com.lms.backend.infrastructure.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,29 +27,23 @@ public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
+    @Cacheable(cacheNames = UserCacheInvalidator.USER_DETAILS_CACHE, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
         
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(user.getAuthorities().stream()
-                        .map(authority -> authority.getRoleName())
-                        .toArray(String[]::new))
-                .accountExpired(false)
-                .accountLocked(!user.isActive())
-                .credentialsExpired(false)
-                .disabled(!user.isActive())
-                .build();
+        return UserPrincipal.from(user);
     }
     
     public UserResponse signup(SignupRequest request) {
@@ -104,6 +101,7 @@ public class UserService implements UserDetailsService {
         
         user.approve();
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
         return new UserResponse(savedUser);
     }
     
@@ -113,6 +111,7 @@ public class UserService implements UserDetailsService {
         
         user.reject();
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
         return new UserResponse(savedUser);
     }
     
@@ -126,6 +125,7 @@ public class UserService implements UserDetailsService {
         
         user.suspend();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
     }
     
     public void deleteUser(Long userId) {
@@ -133,6 +133,7 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
     }
     
     public Map<String, Object> getDashboardStats() {
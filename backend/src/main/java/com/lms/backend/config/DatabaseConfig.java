@@ -0,0 +1,16 @@
+package com.lms.backend.config;
+
+import com.lms.backend.infrastructure.common.SchemaMigrator;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DatabaseConfig {
+    
+    // 스키마 마이그레이션이 끝난 뒤 JPA 초기화 (prod는 ddl-auto: validate로 스키마 검증)
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaMigrator.class);
+    }
+}
\ No newline at end of file
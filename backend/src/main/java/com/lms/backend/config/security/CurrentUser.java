@@ -0,0 +1,12 @@
+package com.lms.backend.config.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 현재 인증된 사용자(UserPrincipal) 주입, 비로그인 시 null
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
\ No newline at end of file
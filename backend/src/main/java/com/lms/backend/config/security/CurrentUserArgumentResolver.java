@@ -0,0 +1,64 @@
+package com.lms.backend.config.security;
+
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.application.user.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// 요청당 한 번만 현재 사용자를 해석하여 @CurrentUser 파라미터에 주입
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+    
+    private static final String ATTRIBUTE_NAME = CurrentUserArgumentResolver.class.getName() + ".principal";
+    
+    private final UserService userService;
+    
+    @Autowired
+    public CurrentUserArgumentResolver(UserService userService) {
+        this.userService = userService;
+    }
+    
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && UserPrincipal.class.isAssignableFrom(parameter.getParameterType());
+    }
+    
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached;
+        }
+        
+        UserPrincipal principal = resolvePrincipal(SecurityContextHolder.getContext().getAuthentication());
+        if (principal != null) {
+            webRequest.setAttribute(ATTRIBUTE_NAME, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+        return principal;
+    }
+    
+    private UserPrincipal resolvePrincipal(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        
+        if (authentication.getPrincipal() instanceof UserPrincipal) {
+            return (UserPrincipal) authentication.getPrincipal();
+        }
+        
+        // 토큰 클레임 외의 방식으로 인증된 경우 (캐시된) UserDetails 조회
+        return (UserPrincipal) userService.loadUserByUsername(authentication.getName());
+    }
+}
\ No newline at end of file
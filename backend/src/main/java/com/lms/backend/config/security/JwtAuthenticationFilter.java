@@ -1,11 +1,13 @@
 package com.lms.backend.config.security;
 
+import com.lms.backend.application.user.UserPrincipal;
 import com.lms.backend.application.user.UserService;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,10 +22,16 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     @Autowired
-    private JwtTokenProvider tokenProvider;
+    private UserService userService;
     
     @Autowired
-    private UserService userService;
+    private VerifiedTokenCache verifiedTokenCache;
+    
+    @Autowired
+    private TokenEpochRegistry tokenEpochRegistry;
+    
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -32,21 +40,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String jwt = getJwtFromRequest(request);
         
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String username = tokenProvider.getUsernameFromToken(jwt);
-            
-            UserDetails userDetails = userService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        VerifiedToken token = StringUtils.hasText(jwt) ? verifiedTokenCache.verify(jwt).orElse(null) : null;
+        
+        if (token != null) {
+            UserDetails userDetails = resolveUserDetails(token);
+            if (userDetails != null) {
+                UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         
         filterChain.doFilter(request, response);
     }
     
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        UserPrincipal principal = statelessPrincipal ? token.toPrincipal() : null;
+        if (principal == null) {
+            // 사용자 정보 클레임이 없는 토큰은 DB에서 조회
+            return userService.loadUserByUsername(token.getSubject());
+        }
+        
+        // 상태 변경/삭제로 epoch가 바뀐 토큰은 거부
+        if (!principal.isActive() || !tokenEpochRegistry.isCurrent(principal.getId(), principal.getTokenEpoch())) {
+            return null;
+        }
+        return principal;
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
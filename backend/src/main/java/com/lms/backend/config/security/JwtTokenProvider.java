@@ -1,66 +1,90 @@
 package com.lms.backend.config.security;
 
+import com.lms.backend.application.user.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
     
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_NAME = "name";
+    static final String CLAIM_AUTHORITIES = "auth";
+    static final String CLAIM_STATUS = "status";
+    static final String CLAIM_EPOCH = "epoch";
+    
     @Value("${jwt.secret}")
     private String jwtSecret;
     
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
     
+    // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser는 thread-safe)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+    
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
         
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
-    }
-    
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+                .setExpiration(expiryDate);
         
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // 사용자 정보를 클레임에 포함하여 요청마다 DB 조회 없이 인증 가능하도록 함
+        if (authentication.getPrincipal() instanceof UserPrincipal) {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            builder.claim(CLAIM_USER_ID, principal.getId())
+                    .claim(CLAIM_NAME, principal.getName())
+                    .claim(CLAIM_AUTHORITIES, principal.getRoleNames())
+                    .claim(CLAIM_STATUS, principal.getStatus().name())
+                    .claim(CLAIM_EPOCH, principal.getTokenEpoch());
+        }
         
-        return claims.getSubject();
+        return builder.signWith(signingKey, SignatureAlgorithm.HS512).compact();
     }
     
-    public boolean validateToken(String authToken) {
+    // 서명 검증과 클레임 파싱을 한 번에 수행
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return Optional.of(new VerifiedToken(claims));
         } catch (MalformedJwtException ex) {
             System.err.println("Invalid JWT token: " + ex.getMessage());
         } catch (ExpiredJwtException ex) {
             System.err.println("Expired JWT token: " + ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             System.err.println("Unsupported JWT token: " + ex.getMessage());
+        } catch (JwtException ex) {
+            System.err.println("Invalid JWT signature: " + ex.getMessage());
         } catch (IllegalArgumentException ex) {
             System.err.println("JWT claims string is empty: " + ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+    
+    public String getUsernameFromToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
+    }
+    
+    public boolean validateToken(String authToken) {
+        return verify(authToken).isPresent();
     }
-}
\ No newline at end of file
+}
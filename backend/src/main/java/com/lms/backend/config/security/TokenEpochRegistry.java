@@ -0,0 +1,46 @@
+package com.lms.backend.config.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.lms.backend.domain.user.UserAccountChangedEvent;
+import com.lms.backend.infrastructure.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// 사용자별 토큰 epoch 캐시 - 토큰의 epoch 클레임과 비교하여 폐기된 토큰을 거부
+// 변경한 인스턴스에서는 즉시 제거되고, 다른 인스턴스에서는 expireAfterWrite 이내에 DB에서 다시 읽어 반영
+@Component
+public class TokenEpochRegistry {
+    
+    private static final int REVOKED = -1; // 삭제된 사용자
+    
+    private final LoadingCache<Long, Integer> epochs;
+    
+    @Autowired
+    public TokenEpochRegistry(UserRepository userRepository,
+                              @Value("${jwt.token-epoch.max-users:100000}") long maxUsers,
+                              @Value("${jwt.token-epoch.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build(id -> userRepository.findTokenEpochById(id).orElse(REVOKED));
+    }
+    
+    public boolean isCurrent(Long userId, int tokenEpoch) {
+        int current = epochs.get(userId);
+        return current != REVOKED && current == tokenEpoch;
+    }
+    
+    public void evict(Long userId) {
+        epochs.invalidate(userId);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.getUserId());
+    }
+}
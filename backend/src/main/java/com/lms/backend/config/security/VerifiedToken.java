@@ -0,0 +1,53 @@
+package com.lms.backend.config.security;
+
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 서명 검증이 끝난 토큰의 클레임
+public class VerifiedToken {
+    
+    private final Claims claims;
+    
+    VerifiedToken(Claims claims) {
+        this.claims = claims;
+    }
+    
+    public String getSubject() {
+        return claims.getSubject();
+    }
+    
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+    
+    public Claims getClaims() {
+        return claims;
+    }
+    
+    // 클레임으로부터 인증 주체 생성 (사용자 정보 클레임이 없는 이전 토큰은 null)
+    public UserPrincipal toPrincipal() {
+        Number userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Number.class);
+        Number epoch = claims.get(JwtTokenProvider.CLAIM_EPOCH, Number.class);
+        String status = claims.get(JwtTokenProvider.CLAIM_STATUS, String.class);
+        List<?> authorities = claims.get(JwtTokenProvider.CLAIM_AUTHORITIES, List.class);
+        if (userId == null || epoch == null || status == null || authorities == null) {
+            return null;
+        }
+        
+        return new UserPrincipal(
+                userId.longValue(),
+                claims.getSubject(),
+                null,
+                claims.get(JwtTokenProvider.CLAIM_NAME, String.class),
+                UserStatus.valueOf(status),
+                epoch.intValue(),
+                authorities.stream().map(String::valueOf).collect(Collectors.toList()),
+                null
+        );
+    }
+}
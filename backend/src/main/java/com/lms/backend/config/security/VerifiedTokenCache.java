@@ -0,0 +1,120 @@
+package com.lms.backend.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 검증된 토큰 캐시 - 토큰 SHA-256 다이제스트를 키로 클레임을 보관하여 토큰당 서명 검증을 1회로 줄임
+@Component
+public class VerifiedTokenCache {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+    
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final Cache<ByteBuffer, CachedToken> cache;
+    
+    @Autowired
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-bytes:8388608}") long maxBytes) {
+        this.tokenProvider = tokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((ByteBuffer key, CachedToken value) -> value.weight)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtVerifiedTokens");
+    }
+    
+    public Optional<VerifiedToken> verify(String token) {
+        if (!enabled) {
+            return tokenProvider.verify(token);
+        }
+        
+        ByteBuffer key = digest(token);
+        CachedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis > System.currentTimeMillis()) {
+            return Optional.of(cached.token);
+        }
+        
+        Optional<VerifiedToken> verified = tokenProvider.verify(token);
+        verified.ifPresent(verifiedToken -> {
+            Date expiration = verifiedToken.getExpiration();
+            // 만료 시각이 없거나 이미 지난 토큰은 캐시하지 않음
+            if (expiration != null && expiration.getTime() > System.currentTimeMillis()) {
+                cache.put(key, new CachedToken(verifiedToken, expiration.getTime(),
+                        ENTRY_OVERHEAD_BYTES + token.length() * 2));
+            }
+        });
+        return verified;
+    }
+    
+    // 서명 키 교체 시 호출
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    private static ByteBuffer digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+    
+    private static class CachedToken {
+        
+        private final VerifiedToken token;
+        private final long expiresAtMillis;
+        private final int weight;
+        
+        private CachedToken(VerifiedToken token, long expiresAtMillis, int weight) {
+            this.token = token;
+            this.expiresAtMillis = expiresAtMillis;
+            this.weight = weight;
+        }
+    }
+    
+    // 항목별 만료 시각을 토큰의 exp 클레임에 맞춤
+    private static class TokenExpiry implements Expiry<ByteBuffer, CachedToken> {
+        
+        @Override
+        public long expireAfterCreate(ByteBuffer key, CachedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(ByteBuffer key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.lms.backend.domain.board;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 내용 주소 방식 첨부 파일 원본 (SHA-256 기준 하나만 저장, 첨부 행 수만큼 참조 수 유지)
+// 참조 수 증감은 행 단위 UPDATE로만 처리
+@Entity
+@Table(name = "attachment_blobs")
+public class AttachmentBlob {
+    
+    @Id
+    @Column(length = 64)
+    private String hash;
+    
+    @Column(nullable = false)
+    private long size;
+    
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    protected AttachmentBlob() {} // JPA
+    
+    public String getHash() { return hash; }
+    public long getSize() { return size; }
+    public int getRefCount() { return refCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.lms.backend.domain.board;
+
+// 새 원본 파일을 저장소로 옮기고 원본 행을 추가했을 때 발행 (트랜잭션이 롤백되면 파일 삭제)
+public class AttachmentBlobCreatedEvent {
+    
+    private final String blobHash;
+    
+    public AttachmentBlobCreatedEvent(String blobHash) {
+        this.blobHash = blobHash;
+    }
+    
+    public String getBlobHash() { return blobHash; }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.lms.backend.domain.board;
+
+// 첨부 행이 삭제되어 원본 참조가 하나 줄었을 때 발행 (커밋 후 남은 참조가 없으면 파일 삭제)
+public class AttachmentReleasedEvent {
+    
+    // 원본 저장소의 해시, 원본 저장소 도입 전에 저장된 파일이면 null
+    private final String blobHash;
+    private final String filePath;
+    
+    public AttachmentReleasedEvent(String blobHash, String filePath) {
+        this.blobHash = blobHash;
+        this.filePath = filePath;
+    }
+    
+    public String getBlobHash() { return blobHash; }
+    public String getFilePath() { return filePath; }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.lms.backend.domain.board;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 게시판별 통계 (게시글/댓글 작성 시 증분 갱신, 주기적으로 실제 값과 보정)
+@Entity
+@Table(name = "board_stats")
+public class BoardStats {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "board_type", length = 20)
+    private BoardType boardType;
+    
+    @Column(name = "total_posts", nullable = false)
+    private long totalPosts;
+    
+    @Column(name = "secret_posts", nullable = false)
+    private long secretPosts;
+    
+    // 댓글(답변)이 없는 게시글 수
+    @Column(name = "unanswered_posts", nullable = false)
+    private long unansweredPosts;
+    
+    // stats_date 당일 작성된 게시글 수 (날짜가 바뀌면 첫 작성 시 1부터 다시 셈)
+    @Column(name = "posts_today", nullable = false)
+    private long postsToday;
+    
+    @Column(name = "stats_date", nullable = false)
+    private LocalDate statsDate;
+    
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+    
+    protected BoardStats() {} // JPA
+    
+    public BoardStats(BoardType boardType) {
+        this.boardType = boardType;
+        this.statsDate = LocalDate.now();
+    }
+    
+    public long getPostsOn(LocalDate date) {
+        return date.equals(statsDate) ? postsToday : 0L;
+    }
+    
+    public BoardType getBoardType() { return boardType; }
+    public long getTotalPosts() { return totalPosts; }
+    public long getSecretPosts() { return secretPosts; }
+    public long getUnansweredPosts() { return unansweredPosts; }
+    public LocalDate getStatsDate() { return statsDate; }
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+}
\ No newline at end of file
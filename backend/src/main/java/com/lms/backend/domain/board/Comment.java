@@ -9,7 +9,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_post_created_at", columnList = "post_id, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
     
@@ -52,9 +54,16 @@ public class Comment {
         if (user == null) {
             return false;
         }
+        return canEdit(user.getId(), user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN));
+    }
+    
+    public boolean canEdit(Long userId, boolean isAdmin) {
+        if (userId == null) {
+            return false;
+        }
         
         // 작성자이거나 관리자인 경우
-        return author.getId().equals(user.getId()) || user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN);
+        return author.getId().equals(userId) || isAdmin;
     }
     
     // Getters and Setters
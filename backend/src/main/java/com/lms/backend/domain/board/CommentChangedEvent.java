@@ -0,0 +1,16 @@
+package com.lms.backend.domain.board;
+
+// 댓글 작성/수정/삭제 시 발행 (게시판 목록/상세 버전 갱신에 사용)
+public class CommentChangedEvent {
+    
+    private final Long postId;
+    private final BoardType boardType;
+    
+    public CommentChangedEvent(Long postId, BoardType boardType) {
+        this.postId = postId;
+        this.boardType = boardType;
+    }
+    
+    public Long getPostId() { return postId; }
+    public BoardType getBoardType() { return boardType; }
+}
\ No newline at end of file
@@ -30,6 +30,10 @@ public class FileAttachment {
     @Column(nullable = false)
     private String contentType;
     
+    // 저장 시 계산한 SHA-256 (16진수)
+    @Column(length = 64)
+    private String checksum;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -68,6 +72,9 @@ public class FileAttachment {
     public String getContentType() { return contentType; }
     public void setContentType(String contentType) { this.contentType = contentType; }
     
+    public String getChecksum() { return checksum; }
+    public void setChecksum(String checksum) { this.checksum = checksum; }
+    
     public Post getPost() { return post; }
     public void setPost(Post post) { this.post = post; }
     
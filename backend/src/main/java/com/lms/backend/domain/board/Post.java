@@ -11,7 +11,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_board_type_created_at", columnList = "board_type, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
     
@@ -22,11 +24,13 @@ public class Post {
     @Column(nullable = false)
     private String title;
     
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // 본문은 별도 테이블에 지연 로딩 (목록/권한 확인 시 읽지 않음)
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id", nullable = false, unique = true)
+    private PostContent body;
     
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "board_type", nullable = false)
     private BoardType boardType;
     
     @Column(nullable = false)
@@ -38,6 +42,10 @@ public class Post {
     @Column(nullable = false)
     private Integer viewCount = 0;
     
+    // 댓글 수 (목록 조회 시 comments 컬렉션을 로딩하지 않기 위해 비정규화)
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -60,12 +68,13 @@ public class Post {
     
     public Post(String title, String content, BoardType boardType, User author) {
         this.title = title;
-        this.content = content;
+        this.body = new PostContent(content);
         this.boardType = boardType;
         this.author = author;
         this.isNotice = false;
         this.isSecret = false;
         this.viewCount = 0;
+        this.commentCount = 0;
         this.attachments = new ArrayList<>();
         this.comments = new ArrayList<>();
     }
@@ -84,7 +93,7 @@ public class Post {
     
     public void updateContent(String title, String content) {
         this.title = title;
-        this.content = content;
+        this.body.update(content);
     }
     
     public void incrementViewCount() {
@@ -102,35 +111,45 @@ public class Post {
     }
     
     public boolean canView(User user) {
+        if (user == null) {
+            return canView(null, false);
+        }
+        return canView(user.getId(), user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN));
+    }
+    
+    public boolean canView(Long userId, boolean isAdmin) {
         if (!isSecret) {
             return true;
         }
         
+        return canEdit(userId, isAdmin);
+    }
+    
+    public boolean canEdit(User user) {
         if (user == null) {
             return false;
         }
-        
-        // 작성자이거나 관리자인 경우
-        return author.getId().equals(user.getId()) || user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN);
+        return canEdit(user.getId(), user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN));
     }
     
-    public boolean canEdit(User user) {
-        if (user == null) {
+    public boolean canEdit(Long userId, boolean isAdmin) {
+        if (userId == null) {
             return false;
         }
         
         // 작성자이거나 관리자인 경우
-        return author.getId().equals(user.getId()) || user.getAuthorities().contains(com.lms.backend.domain.user.Authority.ADMIN);
+        return author.getId().equals(userId) || isAdmin;
     }
     
     // Getters
     public Long getId() { return id; }
     public String getTitle() { return title; }
-    public String getContent() { return content; }
+    public String getContent() { return body.getText(); }
     public BoardType getBoardType() { return boardType; }
     public Boolean getIsNotice() { return isNotice; }
     public Boolean getIsSecret() { return isSecret; }
     public Integer getViewCount() { return viewCount; }
+    public Integer getCommentCount() { return commentCount; }
     public User getAuthor() { return author; }
     public List<FileAttachment> getAttachments() { return attachments; }
     public List<Comment> getComments() { return comments; }
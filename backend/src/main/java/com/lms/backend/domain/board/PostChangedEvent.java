@@ -0,0 +1,19 @@
+package com.lms.backend.domain.board;
+
+// 게시글 작성/수정/삭제 시 발행 (검색 인덱스 갱신, 공지 목록 캐시 무효화 등에 사용)
+public class PostChangedEvent {
+    
+    private final Long postId;
+    private final BoardType boardType;
+    private final boolean deleted;
+    
+    public PostChangedEvent(Long postId, BoardType boardType, boolean deleted) {
+        this.postId = postId;
+        this.boardType = boardType;
+        this.deleted = deleted;
+    }
+    
+    public Long getPostId() { return postId; }
+    public BoardType getBoardType() { return boardType; }
+    public boolean isDeleted() { return deleted; }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.lms.backend.domain.board;
+
+import javax.persistence.*;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 게시글 본문 - posts와 분리된 테이블에 두어 목록/권한 확인 시 로딩되지 않도록 함
+// 긴 본문은 deflate 압축해 compressed_text에 저장하고 본문을 읽을 때만 해제
+@Entity
+@Table(name = "post_contents")
+public class PostContent {
+    
+    // 이 길이(문자 수) 이상인 본문은 압축 저장
+    public static final int COMPRESSION_THRESHOLD = 2048;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // 압축하지 않은 본문 (짧은 본문만, 검색은 본문 압축 여부와 관계없이 검색 인덱스 사용)
+    @Column(columnDefinition = "TEXT")
+    private String text;
+    
+    @Column(name = "compressed_text", length = 16777216)
+    private byte[] compressedText;
+    
+    @Transient
+    private String decompressed;
+    
+    protected PostContent() {} // JPA
+    
+    public PostContent(String content) {
+        update(content);
+    }
+    
+    public void update(String content) {
+        this.decompressed = null;
+        byte[] compressed = content != null && content.length() >= COMPRESSION_THRESHOLD ? deflate(content) : null;
+        if (compressed != null) {
+            this.text = null;
+            this.compressedText = compressed;
+            this.decompressed = content;
+        } else {
+            this.text = content;
+            this.compressedText = null;
+        }
+    }
+    
+    public String getText() {
+        if (compressedText == null) {
+            return text;
+        }
+        if (decompressed == null) {
+            decompressed = inflate(compressedText);
+        }
+        return decompressed;
+    }
+    
+    public boolean isCompressed() {
+        return compressedText != null;
+    }
+    
+    // 프로젝션으로 두 컬럼을 직접 조회한 경우의 본문 복원
+    public static String decode(String text, byte[] compressedText) {
+        return compressedText != null ? inflate(compressedText) : text;
+    }
+    
+    // 압축해도 줄지 않으면 null (원문 저장)
+    private static byte[] deflate(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+                if (out.size() >= raw.length) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private static String inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("게시글 본문을 읽을 수 없습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 본문을 읽을 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    public Long getId() { return id; }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.lms.backend.domain.board;
+
+import javax.persistence.*;
+
+// 게시글별 고유 조회자 HyperLogLog 레지스터
+@Entity
+@Table(name = "post_viewer_sketches")
+public class PostViewerSketch {
+    
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+    
+    @Column(nullable = false, length = 2048)
+    private byte[] registers;
+    
+    protected PostViewerSketch() {} // JPA
+    
+    public PostViewerSketch(Long postId, byte[] registers) {
+        this.postId = postId;
+        this.registers = registers;
+    }
+    
+    public Long getPostId() { return postId; }
+    public byte[] getRegisters() { return registers; }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.lms.backend.domain.board;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 이어 올리기(청크) 업로드 세션 - 받은 바이트 수(offset)는 디스크 반영 후에만 증가
+@Entity
+@Table(name = "upload_sessions", indexes = @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at"))
+public class UploadSession {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+    
+    @Column(name = "uploader_id", nullable = false)
+    private Long uploaderId;
+    
+    @Column(nullable = false)
+    private String fileName;
+    
+    @Column(nullable = false)
+    private String contentType;
+    
+    @Column(name = "upload_length", nullable = false)
+    private long length;
+    
+    @Column(name = "upload_offset", nullable = false)
+    private long offset;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    protected UploadSession() {} // JPA
+    
+    public UploadSession(Long postId, Long uploaderId, String fileName, String contentType, long length,
+                         LocalDateTime expiresAt) {
+        this.id = UUID.randomUUID().toString();
+        this.postId = postId;
+        this.uploaderId = uploaderId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.length = length;
+        this.offset = 0;
+        this.expiresAt = expiresAt;
+    }
+    
+    public boolean isComplete() {
+        return offset == length;
+    }
+    
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+    
+    public String getId() { return id; }
+    public Long getPostId() { return postId; }
+    public Long getUploaderId() { return uploaderId; }
+    public String getFileName() { return fileName; }
+    public String getContentType() { return contentType; }
+    public long getLength() { return length; }
+    public long getOffset() { return offset; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
\ No newline at end of file
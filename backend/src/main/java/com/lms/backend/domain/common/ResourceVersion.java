@@ -0,0 +1,31 @@
+package com.lms.backend.domain.common;
+
+import javax.persistence.*;
+
+// 조건부 조회용 범위별 버전 (게시판별, 과정 카탈로그) - 모든 인스턴스가 같은 값을 보도록 DB에 저장
+@Entity
+@Table(name = "resource_versions")
+public class ResourceVersion {
+    
+    @Id
+    @Column(length = 40)
+    private String scope;
+    
+    @Column(nullable = false)
+    private long version;
+    
+    // epoch millis, 변경마다 최소 1초씩 증가 (Last-Modified는 초 단위로 비교됨)
+    @Column(name = "last_modified", nullable = false)
+    private long lastModified;
+    
+    protected ResourceVersion() {} // JPA
+    
+    public ResourceVersion(String scope, long lastModified) {
+        this.scope = scope;
+        this.lastModified = lastModified;
+    }
+    
+    public String getScope() { return scope; }
+    public long getVersion() { return version; }
+    public long getLastModified() { return lastModified; }
+}
\ No newline at end of file
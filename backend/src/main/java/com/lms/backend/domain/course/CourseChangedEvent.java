@@ -0,0 +1,16 @@
+package com.lms.backend.domain.course;
+
+// 과정 생성/수정/삭제 시 발행 (검색 인덱스 갱신 등에 사용)
+public class CourseChangedEvent {
+    
+    private final Long courseId;
+    private final boolean deleted;
+    
+    public CourseChangedEvent(Long courseId, boolean deleted) {
+        this.courseId = courseId;
+        this.deleted = deleted;
+    }
+    
+    public Long getCourseId() { return courseId; }
+    public boolean isDeleted() { return deleted; }
+}
\ No newline at end of file
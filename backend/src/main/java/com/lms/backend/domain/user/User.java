@@ -46,6 +46,9 @@ public class User {
     @Column(name = "authority")
     private Set<Authority> authorities;
     
+    @Column(name = "token_epoch", nullable = false)
+    private Integer tokenEpoch = 0; // 증가 시 기존 발급 토큰 무효화
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -88,10 +91,16 @@ public class User {
     
     public void reject() {
         this.status = UserStatus.REJECTED;
+        revokeTokens();
     }
     
     public void suspend() {
         this.status = UserStatus.SUSPENDED;
+        revokeTokens();
+    }
+    
+    public void revokeTokens() {
+        this.tokenEpoch++;
     }
     
     public boolean isActive() {
@@ -108,6 +117,7 @@ public class User {
     public UserStatus getStatus() { return status; }
     public String getCompanyName() { return companyName; }
     public Set<Authority> getAuthorities() { return authorities; }
+    public Integer getTokenEpoch() { return tokenEpoch; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.lms.backend.domain.user;
+
+// 사용자 상태 변경/삭제 시 발행 (토큰 무효화, 캐시 제거 등에 사용)
+public class UserAccountChangedEvent {
+    
+    private final Long userId;
+    private final String email;
+    
+    public UserAccountChangedEvent(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+    
+    public Long getUserId() { return userId; }
+    public String getEmail() { return email; }
+}
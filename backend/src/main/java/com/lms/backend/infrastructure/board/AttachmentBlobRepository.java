@@ -0,0 +1,38 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.AttachmentBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+    
+    // 기존 원본 참조 추가, 원본 행이 없으면 0
+    @Modifying
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count + 1 WHERE hash = :hash", nativeQuery = true)
+    int incrementReferences(@Param("hash") String hash);
+    
+    // 새 원본 등록 - 참조는 이후 incrementReferences로 추가 (동시에 같은 내용이 처음 올라오면 기본 키 충돌로 한쪽이 실패)
+    @Modifying
+    @Query(value = "INSERT INTO attachment_blobs (hash, size, ref_count, created_at) VALUES (:hash, :size, 0, :now)",
+           nativeQuery = true)
+    int insertUnreferenced(@Param("hash") String hash, @Param("size") long size, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query(value = "UPDATE attachment_blobs SET ref_count = ref_count - 1 WHERE hash = :hash AND ref_count > 0",
+           nativeQuery = true)
+    int decrementReferences(@Param("hash") String hash);
+    
+    // 참조가 없는 원본을 잠근 채 조회 - 삭제하는 동안 같은 내용의 업로드는 참조 추가에서 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.hash = :hash AND b.refCount = 0")
+    Optional<AttachmentBlob> findUnreferencedForUpdate(@Param("hash") String hash);
+}
\ No newline at end of file
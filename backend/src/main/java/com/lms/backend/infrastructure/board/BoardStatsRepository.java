@@ -0,0 +1,72 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardStats;
+import com.lms.backend.domain.board.BoardType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 통계 증분 갱신은 행 단위 UPDATE 한 번으로 처리 (동시 작성 시 갱신 유실 방지)
+@Repository
+public interface BoardStatsRepository extends JpaRepository<BoardStats, BoardType> {
+    
+    @Modifying
+    @Query(value = "UPDATE board_stats SET total_posts = total_posts + 1, " +
+                   "secret_posts = secret_posts + :secret, " +
+                   "unanswered_posts = unanswered_posts + 1, " +
+                   "posts_today = CASE WHEN stats_date = :today THEN posts_today + 1 ELSE 1 END, " +
+                   "stats_date = :today " +
+                   "WHERE board_type = :boardType",
+           nativeQuery = true)
+    int incrementPosts(@Param("boardType") String boardType,
+                       @Param("secret") int secret,
+                       @Param("today") LocalDate today);
+    
+    @Modifying
+    @Query(value = "UPDATE board_stats SET total_posts = total_posts - 1, " +
+                   "secret_posts = secret_posts - :secret, " +
+                   "unanswered_posts = unanswered_posts - :unanswered, " +
+                   "posts_today = CASE WHEN stats_date = :createdDate THEN posts_today - 1 ELSE posts_today END " +
+                   "WHERE board_type = :boardType",
+           nativeQuery = true)
+    int decrementPosts(@Param("boardType") String boardType,
+                       @Param("secret") int secret,
+                       @Param("unanswered") int unanswered,
+                       @Param("createdDate") LocalDate createdDate);
+    
+    // comment_count 갱신 직후 호출 - 첫 댓글이 달린 경우에만 미답변 수 감소
+    @Modifying
+    @Query(value = "UPDATE board_stats SET unanswered_posts = unanswered_posts - 1 " +
+                   "WHERE board_type = (SELECT p.board_type FROM posts p WHERE p.id = :postId AND p.comment_count = 1)",
+           nativeQuery = true)
+    int markAnswered(@Param("postId") Long postId);
+    
+    // comment_count 갱신 직후 호출 - 마지막 댓글이 삭제된 경우에만 미답변 수 증가
+    @Modifying
+    @Query(value = "UPDATE board_stats SET unanswered_posts = unanswered_posts + 1 " +
+                   "WHERE board_type = (SELECT p.board_type FROM posts p WHERE p.id = :postId AND p.comment_count = 0)",
+           nativeQuery = true)
+    int markUnanswered(@Param("postId") Long postId);
+    
+    // 실제 게시글/댓글 기준으로 전체 통계 재계산
+    @Modifying
+    @Query(value = "UPDATE board_stats SET " +
+                   "total_posts = (SELECT COUNT(*) FROM posts p WHERE p.board_type = board_stats.board_type), " +
+                   "secret_posts = (SELECT COUNT(*) FROM posts p WHERE p.board_type = board_stats.board_type " +
+                   "AND p.is_secret = true), " +
+                   "unanswered_posts = (SELECT COUNT(*) FROM posts p WHERE p.board_type = board_stats.board_type " +
+                   "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id)), " +
+                   "posts_today = (SELECT COUNT(*) FROM posts p WHERE p.board_type = board_stats.board_type " +
+                   "AND p.created_at >= :todayStart), " +
+                   "stats_date = :today, " +
+                   "reconciled_at = :now",
+           nativeQuery = true)
+    int reconcileAll(@Param("today") LocalDate today,
+                     @Param("todayStart") LocalDateTime todayStart,
+                     @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -1,18 +1,50 @@
 package com.lms.backend.infrastructure.board;
 
 import com.lms.backend.domain.board.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
     
+    // 커서 기반 댓글 목록 - 작성자 조인 프로젝션, (created_at, id) 오름차순 seek
+    @Query("SELECT new com.lms.backend.infrastructure.board.CommentSummary(" +
+           "c.id, c.content, a.name, a.id, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<CommentSummary> findSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+    
+    @Query("SELECT new com.lms.backend.infrastructure.board.CommentSummary(" +
+           "c.id, c.content, a.name, a.id, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<CommentSummary> findSliceByPostIdAfter(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+    
+    // 전체 댓글 내보내기용 - 트랜잭션 안에서 소비해야 하며 사용 후 닫아야 함
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.lms.backend.infrastructure.board.CommentSummary(" +
+           "c.id, c.content, a.name, a.id, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<CommentSummary> streamByPostId(@Param("postId") Long postId);
+    
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
     long countByPostId(@Param("postId") Long postId);
     
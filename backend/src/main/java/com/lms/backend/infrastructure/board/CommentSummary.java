@@ -0,0 +1,31 @@
+package com.lms.backend.infrastructure.board;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 댓글 요약 (게시글/작성자 엔티티 로딩 없이 작성자 조인 한 번으로 조회)
+public class CommentSummary {
+    
+    private final Long id;
+    private final String content;
+    private final String authorName;
+    private final Long authorId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    
+    public CommentSummary(Long id, String content, String authorName, Long authorId,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.content = content;
+        this.authorName = authorName;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getId() { return id; }
+    public String getContent() { return content; }
+    public String getAuthorName() { return authorName; }
+    public Long getAuthorId() { return authorId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.FileAttachment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 첨부 행 일괄 INSERT - IDENTITY 키 엔티티는 Hibernate 배치가 꺼지므로 JDBC 배치 한 번으로 저장하고 생성된 ID를 채움
+// 현재 트랜잭션의 커넥션을 그대로 사용
+@Component
+public class FileAttachmentBatchWriter {
+    
+    private static final String INSERT_SQL = "INSERT INTO file_attachments " +
+            "(original_file_name, stored_file_name, file_path, file_size, content_type, checksum, post_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public FileAttachmentBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public void insertAll(Long postId, List<FileAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                for (FileAttachment attachment : attachments) {
+                    statement.setString(1, attachment.getOriginalFileName());
+                    statement.setString(2, attachment.getStoredFileName());
+                    statement.setString(3, attachment.getFilePath());
+                    statement.setLong(4, attachment.getFileSize());
+                    statement.setString(5, attachment.getContentType());
+                    statement.setString(6, attachment.getChecksum());
+                    statement.setLong(7, postId);
+                    statement.setTimestamp(8, Timestamp.valueOf(now));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (FileAttachment attachment : attachments) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("생성된 첨부 ID를 읽을 수 없습니다");
+                        }
+                        attachment.setId(keys.getLong(1));
+                        attachment.setCreatedAt(now);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
\ No newline at end of file
@@ -4,13 +4,17 @@ import com.lms.backend.domain.board.BoardType;
 import com.lms.backend.domain.board.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -20,20 +24,130 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByBoardTypeAndTitleContainingIgnoreCaseOrderByCreatedAtDesc(
             BoardType boardType, String title, Pageable pageable);
     
-    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType AND " +
-           "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByBoardTypeAndKeywordContaining(
-            @Param("boardType") BoardType boardType, 
-            @Param("keyword") String keyword, 
+    List<Post> findByBoardTypeAndIsNoticeOrderByCreatedAtDesc(BoardType boardType, Boolean isNotice);
+    
+    // 목록 조회용 프로젝션 - 본문/댓글 컬렉션 없이 작성자 조인 한 번으로 요약 컬럼만 조회
+    @Query(value = "SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+                   "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+                   "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt) " +
+                   "FROM Post p JOIN p.author a WHERE p.boardType = :boardType " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType")
+    Page<PostSummary> findSummariesByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
+    
+    // Q&A 목록 - 비밀글 열람 가능 여부(작성자/관리자)를 visible 컬럼으로 계산, readableOnly면 SQL에서 필터링
+    // 비로그인 조회자는 viewerId에 -1을 전달
+    @Query(value = "SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+                   "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+                   "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt, " +
+                   "CASE WHEN p.isSecret = false OR a.id = :viewerId OR :isAdmin = true THEN true ELSE false END) " +
+                   "FROM Post p JOIN p.author a WHERE p.boardType = :boardType AND " +
+                   "(:readableOnly = false OR p.isSecret = false OR a.id = :viewerId OR :isAdmin = true) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType AND " +
+                        "(:readableOnly = false OR p.isSecret = false OR p.author.id = :viewerId OR :isAdmin = true)")
+    Page<PostSummary> findSummariesForViewer(
+            @Param("boardType") BoardType boardType,
+            @Param("viewerId") Long viewerId,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("readableOnly") boolean readableOnly,
             Pageable pageable);
     
-    List<Post> findByBoardTypeAndIsNoticeOrderByCreatedAtDesc(BoardType boardType, Boolean isNotice);
+    // 커서 기반 목록 - (created_at, id) 기준 seek, COUNT 쿼리 없음 (Pageable은 크기 제한에만 사용)
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+           "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+           "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt, " +
+           "CASE WHEN p.isSecret = false OR a.id = :viewerId OR :isAdmin = true THEN true ELSE false END) " +
+           "FROM Post p JOIN p.author a WHERE p.boardType = :boardType AND " +
+           "(:readableOnly = false OR p.isSecret = false OR a.id = :viewerId OR :isAdmin = true) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSliceForViewer(
+            @Param("boardType") BoardType boardType,
+            @Param("viewerId") Long viewerId,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("readableOnly") boolean readableOnly,
+            Pageable pageable);
+    
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+           "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+           "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt, " +
+           "CASE WHEN p.isSecret = false OR a.id = :viewerId OR :isAdmin = true THEN true ELSE false END) " +
+           "FROM Post p JOIN p.author a WHERE p.boardType = :boardType AND " +
+           "(:readableOnly = false OR p.isSecret = false OR a.id = :viewerId OR :isAdmin = true) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSliceForViewerAfter(
+            @Param("boardType") BoardType boardType,
+            @Param("viewerId") Long viewerId,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("readableOnly") boolean readableOnly,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+    
+    // 검색 결과 ID 목록으로 목록 프로젝션 조회 (순서는 호출 측에서 관련도 순으로 정렬)
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+           "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+           "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt, " +
+           "CASE WHEN p.isSecret = false OR a.id = :viewerId OR :isAdmin = true THEN true ELSE false END) " +
+           "FROM Post p JOIN p.author a WHERE p.id IN :ids")
+    List<PostSummary> findSummariesForViewerByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("viewerId") Long viewerId,
+            @Param("isAdmin") boolean isAdmin);
+    
+    // 조건부 조회(ETag/Last-Modified) 검증용
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostValidator(" +
+           "p.id, p.boardType, p.isSecret, p.author.id, p.updatedAt) " +
+           "FROM Post p WHERE p.id = :id")
+    Optional<PostValidator> findValidatorById(@Param("id") Long id);
+    
+    // 검색 인덱스 색인용 (압축된 본문은 PostSearchDocument에서 해제)
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSearchDocument(" +
+           "p.id, p.boardType, p.isSecret, a.id, p.title, b.text, b.compressedText) " +
+           "FROM Post p JOIN p.author a JOIN p.body b WHERE p.id = :id")
+    Optional<PostSearchDocument> findSearchDocumentById(@Param("id") Long id);
+    
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSearchDocument(" +
+           "p.id, p.boardType, p.isSecret, a.id, p.title, b.text, b.compressedText) " +
+           "FROM Post p JOIN p.author a JOIN p.body b WHERE p.id > :afterId ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 검색 인덱스 마지막 커밋 이후 작성/수정된 게시글
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSearchDocument(" +
+           "p.id, p.boardType, p.isSecret, a.id, p.title, b.text, b.compressedText) " +
+           "FROM Post p JOIN p.author a JOIN p.body b WHERE p.updatedAt >= :since AND p.id > :afterId ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since,
+                                                             @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT new com.lms.backend.infrastructure.board.PostSummary(" +
+           "p.id, p.title, p.boardType, p.isNotice, p.isSecret, p.viewCount, " +
+           "a.name, a.id, p.commentCount, p.createdAt, p.updatedAt) " +
+           "FROM Post p JOIN p.author a WHERE p.boardType = :boardType AND p.isNotice = true " +
+           "ORDER BY p.createdAt DESC")
+    List<PostSummary> findNoticeSummariesByBoardType(@Param("boardType") BoardType boardType);
     
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
     
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    // 첨부/댓글 변경 시 상세 조회 ETag/Last-Modified가 바뀌도록 수정 시각 갱신
+    @Modifying
+    @Query("UPDATE Post p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // 댓글 수 보정 - 실제 댓글 수와 다른 게시글만 갱신
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = " +
+                   "(SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id) " +
+                   "WHERE comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id)",
+           nativeQuery = true)
+    int recountCommentCounts();
+    
     @Query("SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType")
     long countByBoardType(@Param("boardType") BoardType boardType);
 }
\ No newline at end of file
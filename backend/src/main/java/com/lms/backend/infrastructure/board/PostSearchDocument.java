@@ -0,0 +1,37 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.PostContent;
+
+// 검색 인덱스에 넣을 게시글 필드 (PostRepository 프로젝션으로 조회)
+public class PostSearchDocument {
+    
+    private final Long id;
+    private final BoardType boardType;
+    private final Boolean isSecret;
+    private final Long authorId;
+    private final String title;
+    private final String content;
+    
+    public PostSearchDocument(Long id, BoardType boardType, Boolean isSecret, Long authorId,
+                              String title, String content) {
+        this.id = id;
+        this.boardType = boardType;
+        this.isSecret = isSecret;
+        this.authorId = authorId;
+        this.title = title;
+        this.content = content;
+    }
+    
+    public PostSearchDocument(Long id, BoardType boardType, Boolean isSecret, Long authorId,
+                              String title, String text, byte[] compressedText) {
+        this(id, boardType, isSecret, authorId, title, PostContent.decode(text, compressedText));
+    }
+    
+    public Long getId() { return id; }
+    public BoardType getBoardType() { return boardType; }
+    public Boolean getIsSecret() { return isSecret; }
+    public Long getAuthorId() { return authorId; }
+    public String getTitle() { return title; }
+    public String getContent() { return content; }
+}
\ No newline at end of file
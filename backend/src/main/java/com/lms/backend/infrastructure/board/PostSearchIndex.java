@@ -0,0 +1,111 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.infrastructure.search.LuceneIndex;
+import com.lms.backend.infrastructure.search.SearchHits;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 게시글 전문 검색 인덱스 - 한글 bigram 분석(CJKAnalyzer), BM25 랭킹
+// 게시글 수와 본문이 커서 디스크(인스턴스별 로컬 디렉터리)에 두고 기동 시 다시 색인하지 않음
+@Component
+public class PostSearchIndex extends LuceneIndex {
+    
+    private static final String FIELD_BOARD_TYPE = "boardType";
+    private static final String FIELD_SECRET = "secret";
+    private static final String FIELD_AUTHOR_ID = "authorId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    
+    private static final float TITLE_BOOST = 2.0f;
+    
+    @Autowired
+    public PostSearchIndex(@Value("${board.search-index.directory:search-index/posts}") String indexDirectory) {
+        super(new CJKAnalyzer(), openDirectory(Paths.get(indexDirectory)));
+    }
+    
+    public void index(PostSearchDocument post) {
+        update(post.getId(), toDocument(post));
+    }
+    
+    public void indexAll(List<PostSearchDocument> posts) {
+        updateDocuments(posts.stream().map(this::toDocument).collect(Collectors.toList()));
+    }
+    
+    // 분석 결과 검색어 토큰이 없으면 null 반환
+    public SearchHits search(BoardType boardType, String keyword, Long viewerId, boolean isAdmin,
+                             boolean readableOnly, int offset, int limit) {
+        Query query = buildQuery(boardType, keyword, viewerId, isAdmin, readableOnly);
+        return query != null ? search(query, offset, limit) : null;
+    }
+    
+    private Query buildQuery(BoardType boardType, String keyword, Long viewerId, boolean isAdmin,
+                             boolean readableOnly) {
+        Query titleQuery;
+        Query contentQuery;
+        if (keyword.codePointCount(0, keyword.length()) < 2) {
+            // 한 글자 검색어는 bigram이 없으므로 해당 글자를 포함한 토큰으로 검색
+            titleQuery = containsQuery(FIELD_TITLE, keyword);
+            contentQuery = containsQuery(FIELD_CONTENT, keyword);
+        } else {
+            QueryBuilder builder = new QueryBuilder(analyzer);
+            // 검색어의 모든 bigram을 포함해야 일치 (LIKE 부분 일치와 유사)
+            titleQuery = builder.createBooleanQuery(FIELD_TITLE, keyword, BooleanClause.Occur.MUST);
+            contentQuery = builder.createBooleanQuery(FIELD_CONTENT, keyword, BooleanClause.Occur.MUST);
+        }
+        if (titleQuery == null && contentQuery == null) {
+            return null;
+        }
+        
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        if (titleQuery != null) {
+            text.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (contentQuery != null) {
+            text.add(contentQuery, BooleanClause.Occur.SHOULD);
+        }
+        
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(text.build(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_BOARD_TYPE, boardType.name())), BooleanClause.Occur.FILTER);
+        if (readableOnly && !isAdmin) {
+            // 공개글이거나 본인이 작성한 비밀글만
+            Query readable = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(FIELD_SECRET, "false")), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_AUTHOR_ID, String.valueOf(viewerId))), BooleanClause.Occur.SHOULD)
+                    .build();
+            query.add(readable, BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+    
+    private Document toDocument(PostSearchDocument post) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(post.getId()), Field.Store.YES));
+        document.add(new StringField(FIELD_BOARD_TYPE, post.getBoardType().name(), Field.Store.NO));
+        document.add(new StringField(FIELD_SECRET, String.valueOf(Boolean.TRUE.equals(post.getIsSecret())), Field.Store.NO));
+        document.add(new StringField(FIELD_AUTHOR_ID, String.valueOf(post.getAuthorId()), Field.Store.NO));
+        document.add(new TextField(FIELD_TITLE, post.getTitle(), Field.Store.NO));
+        if (post.getContent() != null) {
+            document.add(new TextField(FIELD_CONTENT, post.getContent(), Field.Store.NO));
+        }
+        return document;
+    }
+}
\ No newline at end of file
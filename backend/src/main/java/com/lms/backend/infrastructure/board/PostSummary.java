@@ -0,0 +1,59 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardType;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 게시글 요약 (본문/댓글 컬렉션 없이 작성자 조인 한 번으로 조회)
+public class PostSummary {
+    
+    private final Long id;
+    private final String title;
+    private final BoardType boardType;
+    private final Boolean isNotice;
+    private final Boolean isSecret;
+    private final Integer viewCount;
+    private final String authorName;
+    private final Long authorId;
+    private final Integer commentCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Boolean visible; // Q&A 목록에서만 쿼리로 계산, 그 외에는 null
+    
+    public PostSummary(Long id, String title, BoardType boardType, Boolean isNotice, Boolean isSecret,
+                       Integer viewCount, String authorName, Long authorId, Integer commentCount,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, boardType, isNotice, isSecret, viewCount, authorName, authorId, commentCount,
+                createdAt, updatedAt, null);
+    }
+    
+    public PostSummary(Long id, String title, BoardType boardType, Boolean isNotice, Boolean isSecret,
+                       Integer viewCount, String authorName, Long authorId, Integer commentCount,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Boolean visible) {
+        this.id = id;
+        this.title = title;
+        this.boardType = boardType;
+        this.isNotice = isNotice;
+        this.isSecret = isSecret;
+        this.viewCount = viewCount;
+        this.authorName = authorName;
+        this.authorId = authorId;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.visible = visible;
+    }
+    
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public BoardType getBoardType() { return boardType; }
+    public Boolean getIsNotice() { return isNotice; }
+    public Boolean getIsSecret() { return isSecret; }
+    public Integer getViewCount() { return viewCount; }
+    public String getAuthorName() { return authorName; }
+    public Long getAuthorId() { return authorId; }
+    public Integer getCommentCount() { return commentCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Boolean getVisible() { return visible; }
+}
\ No newline at end of file
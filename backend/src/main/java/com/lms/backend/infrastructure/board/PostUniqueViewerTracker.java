@@ -0,0 +1,156 @@
+package com.lms.backend.infrastructure.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lms.backend.domain.board.PostViewerSketch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시글별 고유 조회자 수 추적 - 최근 조회한 게시글의 스케치만 메모리에 두고,
+// 이 인스턴스에서 새로 기록된 변경분만 주기적으로 저장된 레지스터와 합쳐 저장
+@Component
+public class PostUniqueViewerTracker {
+    
+    private final PostViewerSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 저장된 레지스터 + 이 인스턴스의 변경분 (추정치 계산용, 크기/유지 시간 제한)
+    private final Cache<Long, HyperLogLog> sketches;
+    
+    // 마지막 저장 이후 이 인스턴스에서 기록된 변경분 (저장 전에는 캐시에서 밀려나도 유지)
+    private final Map<Long, HyperLogLog> changes = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public PostUniqueViewerTracker(PostViewerSketchRepository sketchRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${board.unique-viewers.max-sketches:10000}") long maxSketches,
+                                   @Value("${board.unique-viewers.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(maxSketches)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+    
+    public void recordView(Long postId, long viewerFingerprint) {
+        if (sketchFor(postId).offer(viewerFingerprint)) {
+            // 변경분 기록과 저장 시 꺼내기가 겹쳐도 유실되지 않도록 맵 연산 안에서 기록
+            changes.compute(postId, (id, delta) -> {
+                HyperLogLog sketch = delta != null ? delta : new HyperLogLog();
+                sketch.offer(viewerFingerprint);
+                return sketch;
+            });
+        }
+    }
+    
+    public long estimate(Long postId) {
+        return sketchFor(postId).estimate();
+    }
+    
+    // 목록 조회 시 메모리에 없는 스케치를 한 번에 로딩
+    public void preload(Collection<Long> postIds) {
+        sketches.getAll(postIds, this::loadAll);
+    }
+    
+    // 게시글 삭제 시 호출
+    public void forget(Long postId) {
+        sketches.invalidate(postId);
+        changes.remove(postId);
+        sketchRepository.deleteByPostId(postId);
+    }
+    
+    @Scheduled(fixedDelayString = "${board.unique-viewers.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<Long, HyperLogLog> drained = new HashMap<>();
+        for (Long postId : new ArrayList<>(changes.keySet())) {
+            HyperLogLog delta = changes.remove(postId);
+            if (delta != null) {
+                drained.put(postId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> mergeAndSave(drained));
+        } catch (RuntimeException e) {
+            // 저장 실패 시 다음 주기에 재시도
+            drained.forEach((postId, delta) -> changes.merge(postId, delta, (current, failed) -> {
+                current.merge(failed);
+                return current;
+            }));
+            throw e;
+        }
+    }
+    
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+    
+    // 저장된 레지스터를 잠근 채 변경분과 합쳐 저장 (다른 인스턴스가 저장한 값을 덮어쓰지 않음)
+    private void mergeAndSave(Map<Long, HyperLogLog> drained) {
+        Map<Long, PostViewerSketch> stored = sketchRepository.findAllForUpdate(drained.keySet()).stream()
+                .collect(Collectors.toMap(PostViewerSketch::getPostId, Function.identity()));
+        
+        List<PostViewerSketch> merged = new ArrayList<>();
+        for (Map.Entry<Long, HyperLogLog> entry : drained.entrySet()) {
+            PostViewerSketch current = stored.get(entry.getKey());
+            HyperLogLog sketch = current != null ? HyperLogLog.fromBytes(current.getRegisters()) : new HyperLogLog();
+            sketch.merge(entry.getValue());
+            merged.add(new PostViewerSketch(entry.getKey(), sketch.toBytes()));
+            
+            // 메모리 스케치에도 다른 인스턴스의 기록 반영
+            HyperLogLog cached = sketches.getIfPresent(entry.getKey());
+            if (cached != null) {
+                cached.merge(sketch);
+            }
+        }
+        sketchRepository.saveAll(merged);
+    }
+    
+    private HyperLogLog sketchFor(Long postId) {
+        return sketches.get(postId, id -> withPendingChanges(id, sketchRepository.findById(id)
+                .map(stored -> HyperLogLog.fromBytes(stored.getRegisters()))
+                .orElseGet(HyperLogLog::new)));
+    }
+    
+    private Map<Long, HyperLogLog> loadAll(Iterable<? extends Long> postIds) {
+        List<Long> ids = new ArrayList<>();
+        postIds.forEach(ids::add);
+        
+        Map<Long, HyperLogLog> loaded = new HashMap<>();
+        for (PostViewerSketch stored : sketchRepository.findAllById(ids)) {
+            loaded.put(stored.getPostId(), HyperLogLog.fromBytes(stored.getRegisters()));
+        }
+        for (Long postId : ids) {
+            loaded.put(postId, withPendingChanges(postId, loaded.getOrDefault(postId, new HyperLogLog())));
+        }
+        return loaded;
+    }
+    
+    // 캐시에서 밀려난 뒤 다시 로딩할 때 아직 저장되지 않은 변경분 포함
+    private HyperLogLog withPendingChanges(Long postId, HyperLogLog sketch) {
+        HyperLogLog delta = changes.get(postId);
+        if (delta != null) {
+            sketch.merge(delta);
+        }
+        return sketch;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardType;
+
+import java.time.LocalDateTime;
+
+// 조건부 조회용 게시글 검증 정보 (본문/작성자 엔티티 로딩 없이 조회)
+public class PostValidator {
+    
+    private final Long id;
+    private final BoardType boardType;
+    private final Boolean isSecret;
+    private final Long authorId;
+    private final LocalDateTime updatedAt;
+    
+    public PostValidator(Long id, BoardType boardType, Boolean isSecret, Long authorId, LocalDateTime updatedAt) {
+        this.id = id;
+        this.boardType = boardType;
+        this.isSecret = isSecret;
+        this.authorId = authorId;
+        this.updatedAt = updatedAt;
+    }
+    
+    public boolean canView(Long viewerId, boolean isAdmin) {
+        return !Boolean.TRUE.equals(isSecret) || isAdmin || authorId.equals(viewerId);
+    }
+    
+    public Long getId() { return id; }
+    public BoardType getBoardType() { return boardType; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.lms.backend.infrastructure.board;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글 조회수 쓰기 지연 버퍼 - 메모리에 누적 후 주기적으로 일괄 UPDATE
+@Component
+public class PostViewCountBuffer {
+    
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    // 누적과 꺼내기를 모두 맵 연산(merge/remove)으로 처리해 꺼내는 순간과 겹친 조회도 유실되지 않음
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public PostViewCountBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+    
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+    
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : new ArrayList<>(pending.keySet())) {
+            // 꺼낸 뒤에 들어오는 조회는 새 항목에 누적됨
+            Long delta = pending.remove(postId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 재시도
+            for (Object[] row : batch) {
+                pending.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            throw e;
+        }
+    }
+    
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.PostViewerSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Long> {
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostViewerSketch s WHERE s.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+    
+    // 여러 인스턴스가 같은 게시글의 변경분을 동시에 합쳐 저장하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostViewerSketch s WHERE s.postId IN :postIds")
+    List<PostViewerSketch> findAllForUpdate(@Param("postIds") Collection<Long> postIds);
+}
\ No newline at end of file
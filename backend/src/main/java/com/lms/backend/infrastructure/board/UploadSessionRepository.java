@@ -0,0 +1,30 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    
+    // 기록 전 offset이 그대로일 때만 반영, 다른 요청이 먼저 반영했으면 0
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.offset = :newOffset, s.expiresAt = :expiresAt " +
+           "WHERE s.id = :id AND s.offset = :offset")
+    int advanceOffset(@Param("id") String id, @Param("offset") long offset,
+                      @Param("newOffset") long newOffset, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Query("SELECT COUNT(s) FROM UploadSession s WHERE s.uploaderId = :uploaderId AND s.expiresAt > :now")
+    long countOpenByUploaderId(@Param("uploaderId") Long uploaderId, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT s.id FROM UploadSession s WHERE s.expiresAt <= :now")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.lms.backend.infrastructure.common;
+
+import com.lms.backend.domain.common.ResourceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// 버전 증가는 행 단위 UPDATE 한 번으로 처리 (동시 쓰기 시 갱신 유실 방지)
+@Repository
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, String> {
+    
+    // 같은 초 안의 변경도 If-Modified-Since 비교에서 구분되도록 Last-Modified는 최소 1초씩 증가
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE resource_versions SET version = version + 1, " +
+                   "last_modified = GREATEST(:now, last_modified + 1000) " +
+                   "WHERE scope = :scope",
+           nativeQuery = true)
+    int increment(@Param("scope") String scope, @Param("now") long now);
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.lms.backend.infrastructure.common;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 스키마 변경 스크립트(V<버전>__<설명>.sql)를 버전 순으로 한 번씩만 적용 - 적용 이력은 schema_migrations에 기록
+// 기동 시 JPA 초기화(스키마 검증) 전에 실행되며, 적용할 스크립트가 없으면 DDL 없이 이력만 조회
+// 여러 인스턴스가 동시에 기동하면 advisory lock에서 기다렸다가 남은 스크립트만 확인
+@Component
+@ConditionalOnProperty(name = "schema.migration.enabled", havingValue = "true")
+public class SchemaMigrator implements InitializingBean {
+    
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final long LOCK_KEY = 7_301_042L;
+    
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String locations;
+    
+    public SchemaMigrator(DataSource dataSource,
+                          @Value("${schema.migration.locations:classpath:db/migration/postgresql/*.sql}") String locations) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // JPA 트랜잭션 관리자는 아직 없으므로 JDBC 트랜잭션으로 실행 (PostgreSQL은 DDL도 롤백됨)
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.locations = locations;
+    }
+    
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        migrate();
+    }
+    
+    // 이번에 적용한 버전 목록 반환 - 하나라도 실패하면 전부 롤백되고 기동 중단
+    public List<Integer> migrate() throws IOException {
+        List<Migration> migrations = findMigrations();
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")");
+            if (!historyTableExists()) {
+                jdbcTemplate.execute("CREATE TABLE schema_migrations (" +
+                        "version INT PRIMARY KEY, " +
+                        "description VARCHAR(200) NOT NULL, " +
+                        "installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            }
+            Set<Integer> installed = new HashSet<>(
+                    jdbcTemplate.queryForList("SELECT version FROM schema_migrations", Integer.class));
+            
+            List<Integer> applied = new ArrayList<>();
+            for (Migration migration : migrations) {
+                if (installed.contains(migration.version)) {
+                    continue;
+                }
+                DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(migration.script), dataSource);
+                jdbcTemplate.update("INSERT INTO schema_migrations (version, description) VALUES (?, ?)",
+                        migration.version, migration.description);
+                applied.add(migration.version);
+            }
+            return applied;
+        });
+    }
+    
+    private boolean historyTableExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                "WHERE table_schema = current_schema() AND table_name = 'schema_migrations'", Integer.class);
+        return count != null && count > 0;
+    }
+    
+    private List<Migration> findMigrations() throws IOException {
+        List<Migration> migrations = new ArrayList<>();
+        Set<Integer> versions = new HashSet<>();
+        for (Resource script : new PathMatchingResourcePatternResolver().getResources(locations)) {
+            Matcher matcher = SCRIPT_NAME.matcher(script.getFilename());
+            if (!matcher.matches()) {
+                throw new IllegalStateException("마이그레이션 파일 이름이 올바르지 않습니다: " + script.getFilename());
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (!versions.add(version)) {
+                throw new IllegalStateException("마이그레이션 버전이 중복되었습니다: " + version);
+            }
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), script));
+        }
+        migrations.sort(Comparator.comparingInt(migration -> migration.version));
+        return migrations;
+    }
+    
+    private static class Migration {
+        
+        private final int version;
+        private final String description;
+        private final Resource script;
+        
+        private Migration(int version, String description, Resource script) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+        }
+    }
+}
\ No newline at end of file
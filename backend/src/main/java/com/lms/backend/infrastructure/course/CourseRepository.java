@@ -4,12 +4,15 @@ import com.lms.backend.domain.course.Course;
 import com.lms.backend.domain.course.CourseStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -20,17 +23,46 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     
     Page<Course> findByCategoryAndStatus(String category, CourseStatus status, Pageable pageable);
     
+    // 검색어 없는 목록 (검색어가 있으면 검색 인덱스 사용)
     @Query("SELECT c FROM Course c WHERE " +
            "(:category IS NULL OR c.category = :category) AND " +
-           "(:status IS NULL OR c.status = :status) AND " +
-           "(:search IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(c.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(c.instructor) LIKE LOWER(CONCAT('%', :search, '%')))")
+           "(:status IS NULL OR c.status = :status)")
     Page<Course> findCoursesWithFilters(@Param("category") String category, 
                                        @Param("status") CourseStatus status,
-                                       @Param("search") String search,
                                        Pageable pageable);
     
+    // 커서 기반 목록 - (created_at, id) 기준 seek, COUNT 쿼리 없음
+    @Query("SELECT c FROM Course c WHERE " +
+           "(:category IS NULL OR c.category = :category) AND " +
+           "(:status IS NULL OR c.status = :status) AND " +
+           "(:search IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(c.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(c.instructor) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Course> findCourseSliceWithFilters(@Param("category") String category,
+                                             @Param("status") CourseStatus status,
+                                             @Param("search") String search,
+                                             Pageable pageable);
+    
+    @Query("SELECT c FROM Course c WHERE " +
+           "(:category IS NULL OR c.category = :category) AND " +
+           "(:status IS NULL OR c.status = :status) AND " +
+           "(:search IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(c.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(c.instructor) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Course> findCourseSliceWithFiltersAfter(@Param("category") String category,
+                                                  @Param("status") CourseStatus status,
+                                                  @Param("search") String search,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+    
+    // 조건부 조회(ETag/Last-Modified) 검증용
+    @Query("SELECT c.updatedAt FROM Course c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
     @Query("SELECT DISTINCT c.category FROM Course c")
     List<String> findDistinctCategories();
     
@@ -0,0 +1,126 @@
+package com.lms.backend.infrastructure.course;
+
+import com.lms.backend.domain.course.Course;
+import com.lms.backend.domain.course.CourseStatus;
+import com.lms.backend.infrastructure.search.LuceneIndex;
+import com.lms.backend.infrastructure.search.SearchHits;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 과정 검색 인덱스 - 제목/강사/설명을 필드별로 색인하고 분류/상태는 키워드 필드로 필터링
+// 과정 수가 적고 자동완성 트라이도 기동 시 다시 만들므로 메모리에만 유지
+@Component
+public class CourseSearchIndex extends LuceneIndex {
+    
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_INSTRUCTOR = "instructor";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_STATUS = "status";
+    
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float INSTRUCTOR_BOOST = 2.0f;
+    
+    public CourseSearchIndex() {
+        super(new CJKAnalyzer(), new ByteBuffersDirectory());
+    }
+    
+    public void index(Course course) {
+        update(course.getId(), toDocument(course));
+    }
+    
+    public void indexAll(List<Course> courses) {
+        updateDocuments(courses.stream().map(this::toDocument).collect(Collectors.toList()));
+    }
+    
+    // 분석 결과 검색어 토큰이 없으면 null 반환
+    public SearchHits search(String search, String category, CourseStatus status, int offset, int limit) {
+        String[] words = search.trim().split("\\s+");
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        boolean hasTerms = false;
+        hasTerms |= addField(text, fieldQuery(FIELD_TITLE, words), TITLE_BOOST);
+        hasTerms |= addField(text, fieldQuery(FIELD_INSTRUCTOR, words), INSTRUCTOR_BOOST);
+        hasTerms |= addField(text, fieldQuery(FIELD_DESCRIPTION, words), 1.0f);
+        if (!hasTerms) {
+            return null;
+        }
+        
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(text.build(), BooleanClause.Occur.MUST);
+        if (category != null) {
+            query.add(new TermQuery(new Term(FIELD_CATEGORY, category)), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return search(query.build(), offset, limit);
+    }
+    
+    // 단어마다 모든 토큰을 포함해야 일치 - 입력 중인 마지막 단어는 접두어로도 일치 (영문 부분 단어 "jav" 등)
+    private Query fieldQuery(String field, String[] words) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasTerms = false;
+        for (int i = 0; i < words.length; i++) {
+            Query word;
+            if (words[i].codePointCount(0, words[i].length()) < 2) {
+                word = containsQuery(field, words[i]);
+            } else if (i < words.length - 1) {
+                word = builder.createBooleanQuery(field, words[i], BooleanClause.Occur.MUST);
+            } else {
+                word = lastWordQuery(builder, field, words[i]);
+            }
+            if (word != null) {
+                query.add(word, BooleanClause.Occur.MUST);
+                hasTerms = true;
+            }
+        }
+        return hasTerms ? query.build() : null;
+    }
+    
+    private Query lastWordQuery(QueryBuilder builder, String field, String word) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new PrefixQuery(new Term(field, analyzer.normalize(field, word))), BooleanClause.Occur.SHOULD);
+        Query exact = builder.createBooleanQuery(field, word, BooleanClause.Occur.MUST);
+        if (exact != null) {
+            query.add(exact, BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+    
+    private boolean addField(BooleanQuery.Builder text, Query fieldQuery, float boost) {
+        if (fieldQuery == null) {
+            return false;
+        }
+        text.add(boost != 1.0f ? new BoostQuery(fieldQuery, boost) : fieldQuery, BooleanClause.Occur.SHOULD);
+        return true;
+    }
+    
+    private Document toDocument(Course course) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(course.getId()), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, course.getTitle(), Field.Store.NO));
+        document.add(new TextField(FIELD_INSTRUCTOR, course.getInstructor(), Field.Store.NO));
+        if (course.getDescription() != null) {
+            document.add(new TextField(FIELD_DESCRIPTION, course.getDescription(), Field.Store.NO));
+        }
+        document.add(new StringField(FIELD_CATEGORY, course.getCategory(), Field.Store.NO));
+        document.add(new StringField(FIELD_STATUS, course.getStatus().name(), Field.Store.NO));
+        return document;
+    }
+}
\ No newline at end of file
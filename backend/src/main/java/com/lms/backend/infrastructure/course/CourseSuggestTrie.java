@@ -0,0 +1,362 @@
+package com.lms.backend.infrastructure.course;
+
+import com.lms.backend.domain.course.Course;
+import com.lms.backend.infrastructure.search.HangulJamo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 과정명/강사명 자동완성용 압축 접두어 트라이 (키는 한글 자모 분해 문자열)
+// 각 노드에 하위 트리의 상위 MAX_SUGGESTIONS개를 미리 계산해 두어 조회는 접두어 탐색 한 번으로 끝남
+// 변경 시에는 해당 과정의 키 경로만 갱신
+@Component
+public class CourseSuggestTrie {
+    
+    public static final int MAX_SUGGESTIONS = 10;
+    
+    private static final char[] EMPTY_LABEL = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final CourseSuggestion[] NO_ENTRIES = new CourseSuggestion[0];
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node(EMPTY_LABEL);
+    
+    // 과정별 과정명 항목, 강사별 항목과 과정별 수강 인원 (강사 순위는 담당 과정 수강 인원 합계)
+    private final Map<Long, CourseSuggestion> titles = new HashMap<>();
+    private final Map<Long, String> instructorByCourse = new HashMap<>();
+    private final Map<String, CourseSuggestion> instructors = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> instructorEnrollments = new HashMap<>();
+    
+    public List<CourseSuggestion> suggest(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String key = HangulJamo.decompose(query);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            CourseSuggestion[] top = node.top;
+            return Arrays.asList(Arrays.copyOf(top, Math.min(limit, top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void index(Course course) {
+        lock.writeLock().lock();
+        try {
+            removeCourse(course.getId());
+            
+            int enrollment = course.getCurrentEnrollment() != null ? course.getCurrentEnrollment() : 0;
+            CourseSuggestion title = new CourseSuggestion(CourseSuggestion.Type.TITLE, course.getTitle(), course.getId(), enrollment);
+            titles.put(course.getId(), title);
+            insertAll(title);
+            
+            String instructor = course.getInstructor();
+            if (instructor != null && !instructor.trim().isEmpty()) {
+                instructorByCourse.put(course.getId(), instructor);
+                instructorEnrollments.computeIfAbsent(instructor, name -> new HashMap<>()).put(course.getId(), enrollment);
+                refreshInstructor(instructor);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            removeCourse(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // 재색인 후 DB에 없는 과정 항목 제거 (전체 초기화 없이 갱신해 재색인 중에도 자동완성 유지)
+    public void retainOnly(Set<Long> courseIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long courseId : new ArrayList<>(titles.keySet())) {
+                if (!courseIds.contains(courseId)) {
+                    removeCourse(courseId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeCourse(Long courseId) {
+        CourseSuggestion title = titles.remove(courseId);
+        if (title != null) {
+            removeAll(title);
+        }
+        String instructor = instructorByCourse.remove(courseId);
+        if (instructor != null) {
+            Map<Long, Integer> enrollments = instructorEnrollments.get(instructor);
+            enrollments.remove(courseId);
+            if (enrollments.isEmpty()) {
+                instructorEnrollments.remove(instructor);
+            }
+            refreshInstructor(instructor);
+        }
+    }
+    
+    // 강사 항목은 순위가 바뀌므로 기존 항목을 빼고 새 합계로 다시 넣음
+    private void refreshInstructor(String instructor) {
+        CourseSuggestion previous = instructors.remove(instructor);
+        if (previous != null) {
+            removeAll(previous);
+        }
+        Map<Long, Integer> enrollments = instructorEnrollments.get(instructor);
+        if (enrollments == null) {
+            return;
+        }
+        int total = 0;
+        for (int enrollment : enrollments.values()) {
+            total += enrollment;
+        }
+        CourseSuggestion entry = new CourseSuggestion(CourseSuggestion.Type.INSTRUCTOR, instructor, null, total);
+        instructors.put(instructor, entry);
+        insertAll(entry);
+    }
+    
+    private void insertAll(CourseSuggestion entry) {
+        for (char[] key : keysOf(entry.getText())) {
+            insert(key, entry);
+        }
+    }
+    
+    private void removeAll(CourseSuggestion entry) {
+        for (char[] key : keysOf(entry.getText())) {
+            remove(key, entry);
+        }
+    }
+    
+    // 전체 문자열과 각 단어 시작 위치부터의 문자열을 키로 사용 ("데이터 분석 입문"은 "분석"으로도 검색)
+    private static List<char[]> keysOf(String text) {
+        char[] full = HangulJamo.decompose(text).toCharArray();
+        List<char[]> keys = new ArrayList<>();
+        if (full.length == 0) {
+            return keys;
+        }
+        keys.add(full);
+        for (int i = 0; i < full.length - 1; i++) {
+            if (full[i] == ' ') {
+                keys.add(Arrays.copyOfRange(full, i + 1, full.length));
+            }
+        }
+        return keys;
+    }
+    
+    private Node find(String key) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            char[] label = child.label;
+            int j = 0;
+            while (j < label.length && i < key.length()) {
+                if (label[j] != key.charAt(i)) {
+                    return null;
+                }
+                j++;
+                i++;
+            }
+            node = child;
+        }
+        return node;
+    }
+    
+    private void insert(char[] key, CourseSuggestion entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length) {
+            Node child = node.child(key[i]);
+            if (child == null) {
+                Node leaf = new Node(Arrays.copyOfRange(key, i, key.length));
+                node.addChild(leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length) {
+                // 간선 중간에서 갈라지면 분기 노드를 만들어 기존 자식을 아래로 내림
+                Node split = new Node(Arrays.copyOf(child.label, common));
+                node.replaceChild(child, split);
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                split.children = new Node[]{child};
+                split.top = child.top;
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        
+        node.entries = append(node.entries, entry);
+        recomputeTop(path);
+    }
+    
+    private void remove(char[] key, CourseSuggestion entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length) {
+            Node child = node.child(key[i]);
+            if (child == null || commonPrefix(child.label, key, i) < child.label.length) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            i += child.label.length;
+        }
+        
+        node.entries = without(node.entries, entry);
+        // 빈 노드는 제거하고, 항목 없이 자식 하나만 남은 노드는 자식과 합쳐 압축 상태 유지
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.entries.length == 0 && current.children.length == 0) {
+                parent.removeChild(current);
+                path.remove(depth);
+            } else if (current.entries.length == 0 && current.children.length == 1) {
+                Node only = current.children[0];
+                char[] merged = Arrays.copyOf(current.label, current.label.length + only.label.length);
+                System.arraycopy(only.label, 0, merged, current.label.length, only.label.length);
+                only.label = merged;
+                parent.replaceChild(current, only);
+                path.set(depth, only);
+            }
+        }
+        recomputeTop(path);
+    }
+    
+    private static void recomputeTop(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node node = path.get(depth);
+            List<CourseSuggestion> candidates = new ArrayList<>(Arrays.asList(node.entries));
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(CourseSuggestion::compareRank);
+            
+            // 같은 항목이 여러 키(단어 시작 위치)로 들어간 경우 한 번만 노출
+            Map<CourseSuggestion, Boolean> seen = new IdentityHashMap<>();
+            List<CourseSuggestion> top = new ArrayList<>(MAX_SUGGESTIONS);
+            for (CourseSuggestion candidate : candidates) {
+                if (top.size() == MAX_SUGGESTIONS) {
+                    break;
+                }
+                if (seen.put(candidate, Boolean.TRUE) == null) {
+                    top.add(candidate);
+                }
+            }
+            node.top = top.toArray(NO_ENTRIES);
+        }
+    }
+    
+    private static int commonPrefix(char[] label, char[] key, int offset) {
+        int n = 0;
+        while (n < label.length && offset + n < key.length && label[n] == key[offset + n]) {
+            n++;
+        }
+        return n;
+    }
+    
+    private static CourseSuggestion[] append(CourseSuggestion[] entries, CourseSuggestion entry) {
+        CourseSuggestion[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        return result;
+    }
+    
+    private static CourseSuggestion[] without(CourseSuggestion[] entries, CourseSuggestion entry) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == entry) {
+                CourseSuggestion[] result = new CourseSuggestion[entries.length - 1];
+                System.arraycopy(entries, 0, result, 0, i);
+                System.arraycopy(entries, i + 1, result, i, entries.length - i - 1);
+                return result;
+            }
+        }
+        return entries;
+    }
+    
+    // 자식은 간선 첫 글자 기준으로 정렬해 이진 탐색
+    private static final class Node {
+        char[] label;
+        Node[] children = NO_CHILDREN;
+        CourseSuggestion[] entries = NO_ENTRIES;
+        CourseSuggestion[] top = NO_ENTRIES;
+        
+        Node(char[] label) {
+            this.label = label;
+        }
+        
+        Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+        
+        void addChild(Node child) {
+            int insertAt = -(indexOf(child.label[0]) + 1);
+            Node[] result = new Node[children.length + 1];
+            System.arraycopy(children, 0, result, 0, insertAt);
+            result[insertAt] = child;
+            System.arraycopy(children, insertAt, result, insertAt + 1, children.length - insertAt);
+            children = result;
+        }
+        
+        void replaceChild(Node previous, Node replacement) {
+            children[indexOf(previous.label[0])] = replacement;
+        }
+        
+        void removeChild(Node child) {
+            int index = indexOf(child.label[0]);
+            Node[] result = new Node[children.length - 1];
+            System.arraycopy(children, 0, result, 0, index);
+            System.arraycopy(children, index + 1, result, index, children.length - index - 1);
+            children = result;
+        }
+        
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label[0];
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
\ No newline at end of file
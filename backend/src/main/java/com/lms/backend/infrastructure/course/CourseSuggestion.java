@@ -0,0 +1,30 @@
+package com.lms.backend.infrastructure.course;
+
+// 검색어 자동완성 항목 - 과정명(courseId 포함) 또는 강사명, 수강 인원 순으로 정렬
+public class CourseSuggestion {
+    
+    public enum Type { TITLE, INSTRUCTOR }
+    
+    private final Type type;
+    private final String text;
+    private final Long courseId;
+    private final int enrollment;
+    
+    public CourseSuggestion(Type type, String text, Long courseId, int enrollment) {
+        this.type = type;
+        this.text = text;
+        this.courseId = courseId;
+        this.enrollment = enrollment;
+    }
+    
+    // 수강 인원 내림차순, 같으면 이름순
+    int compareRank(CourseSuggestion other) {
+        int byEnrollment = Integer.compare(other.enrollment, enrollment);
+        return byEnrollment != 0 ? byEnrollment : text.compareTo(other.text);
+    }
+    
+    public Type getType() { return type; }
+    public String getText() { return text; }
+    public Long getCourseId() { return courseId; }
+    public int getEnrollment() { return enrollment; }
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.lms.backend.infrastructure.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.UUID;
+
+// 내용 주소 방식 첨부 파일 저장소 - 원본은 <업로드 디렉터리>/ab/cd/<SHA-256>에 하나만 저장
+// 업로드는 같은 파일 시스템의 임시 디렉터리에 한 번만 기록하면서 크기와 SHA-256을 계산하고,
+// 새 내용일 때만 fsync 후 원본 위치로 원자적으로 이동 (이미 있는 내용이면 임시 파일만 버림)
+@Component
+public class AttachmentStorage {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String STAGING_DIRECTORY = "tmp";
+    private static final String UPLOAD_SUFFIX = ".part";
+    
+    private final Path root;
+    private final Path staging;
+    
+    public AttachmentStorage(@Value("${file.upload.directory:uploads}") String uploadDirectory) {
+        this.root = Paths.get(uploadDirectory);
+        this.staging = root.resolve(STAGING_DIRECTORY);
+    }
+    
+    // 최대 크기를 넘으면 읽기를 멈추고 기록 중인 파일을 지움
+    public StagedFile stage(InputStream in, long maxSize) throws IOException {
+        Files.createDirectories(staging);
+        Path path = staging.resolve(UUID.randomUUID().toString());
+        
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] array = buffer.array();
+            int n;
+            while ((n = in.read(array)) != -1) {
+                size += n;
+                if (size > maxSize) {
+                    throw new RuntimeException("File size exceeds " + (maxSize / (1024 * 1024)) + "MB limit");
+                }
+                digest.update(array, 0, n);
+                buffer.clear().limit(n);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        
+        return new StagedFile(path, size, toHex(digest.digest()));
+    }
+    
+    // 임시 파일을 원본 위치로 이동 - 반환 시점에는 내용과 디렉터리 항목이 디스크에 반영(fsync)되어 있음
+    public Path commit(StagedFile staged) throws IOException {
+        Path target = blobPath(staged.getChecksum());
+        Files.createDirectories(target.getParent());
+        try (FileChannel channel = FileChannel.open(staged.getPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(staged.getPath(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(target.getParent());
+        return target;
+    }
+    
+    public void discard(StagedFile staged) throws IOException {
+        Files.deleteIfExists(staged.getPath());
+    }
+    
+    // 이어 올리기 파일을 전체 크기로 미리 만들어 두고 청크는 각자 위치에 기록 (희소 파일)
+    public void allocate(String uploadId, long length) throws IOException {
+        Files.createDirectories(staging);
+        Path path = Files.createFile(uploadPath(uploadId));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(length);
+        }
+    }
+    
+    // offset 위치부터 최대 maxBytes까지 기록하고 디스크 반영 후 기록한 바이트 수 반환
+    // 클라이언트 연결이 끊겨 읽기가 실패하면 그때까지 받은 만큼만 반영 (다음 요청은 그 위치부터 이어 올림)
+    public long writeChunk(String uploadId, long offset, InputStream in, long maxBytes) throws IOException {
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(uploadPath(uploadId), StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] array = buffer.array();
+            while (written < maxBytes) {
+                int n;
+                try {
+                    n = in.read(array, 0, (int) Math.min(array.length, maxBytes - written));
+                } catch (IOException e) {
+                    break;
+                }
+                if (n == -1) {
+                    break;
+                }
+                buffer.clear().limit(n);
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, offset + written);
+                }
+            }
+            channel.force(false);
+        }
+        return written;
+    }
+    
+    // 다 받은 파일의 SHA-256을 계산해 원본 저장소로 옮길 수 있는 임시 파일로 전환
+    // 업로드 파일은 남겨 두고 하드 링크(지원하지 않으면 복사본)를 넘기므로 첨부 전환이 실패해도 다시 시도할 수 있음
+    public StagedFile seal(String uploadId, long length) throws IOException {
+        Path path = uploadPath(uploadId);
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(path)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        
+        Path sealed = staging.resolve(UUID.randomUUID().toString());
+        try {
+            Files.createLink(sealed, path);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(path, sealed);
+        }
+        return new StagedFile(sealed, length, toHex(digest.digest()));
+    }
+    
+    public void discardUpload(String uploadId) throws IOException {
+        Files.deleteIfExists(uploadPath(uploadId));
+    }
+    
+    // 기준 시각 이후로 수정되지 않은 임시 파일 삭제 (중단된 업로드/만료된 세션의 잔여 파일)
+    public int sweepStaging(Instant modifiedBefore) throws IOException {
+        if (!Files.isDirectory(staging)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(staging)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore)
+                        && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+    
+    public boolean exists(String hash) {
+        return Files.exists(blobPath(hash));
+    }
+    
+    public void deleteBlob(String hash) throws IOException {
+        Files.deleteIfExists(blobPath(hash));
+    }
+    
+    // 원본 저장소 도입 전에 개별 경로로 저장된 파일
+    public void delete(Path path) throws IOException {
+        Files.deleteIfExists(path);
+    }
+    
+    // 해시 앞 4자리로 2단계 디렉터리를 나눠 한 디렉터리의 파일 수를 제한
+    public Path blobPath(String hash) {
+        return root.resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash);
+    }
+    
+    private Path uploadPath(String uploadId) {
+        return staging.resolve(uploadId + UPLOAD_SUFFIX);
+    }
+    
+    // 새 디렉터리 항목도 디스크에 반영 (디렉터리 fsync를 지원하지 않는 플랫폼은 무시)
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 파일 내용은 이미 반영됨
+        }
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
\ No newline at end of file
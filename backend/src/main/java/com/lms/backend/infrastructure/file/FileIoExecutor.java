@@ -0,0 +1,57 @@
+package com.lms.backend.infrastructure.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 첨부 파일 기록 전용 실행기 - 여러 파일 업로드 시 파일별 기록/해시 계산을 동시에 수행
+// 스레드와 큐가 모두 차면 요청 스레드가 직접 기록 (동시 디스크 쓰기 수 제한)
+@Component
+public class FileIoExecutor {
+    
+    private final ThreadPoolExecutor executor;
+    
+    public FileIoExecutor(@Value("${file.upload.io-threads:4}") int threads,
+                          @Value("${file.upload.io-queue-capacity:64}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new FileIoThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private static class FileIoThreadFactory implements ThreadFactory {
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "file-io-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
\ No newline at end of file
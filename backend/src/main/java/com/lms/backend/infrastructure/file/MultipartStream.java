@@ -0,0 +1,210 @@
+package com.lms.backend.infrastructure.file;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+// multipart/form-data 본문을 앞에서부터 순서대로 읽는 파서
+// 파트 본문을 메모리나 임시 파일에 모으지 않고 고정 크기 버퍼로 경계값까지만 흘려보냄
+public class MultipartStream {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+    
+    private final InputStream in;
+    // 파트 본문 끝 구분자 "\r\n--" + boundary
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+    
+    private PartInputStream current;
+    private boolean finished;
+    
+    public MultipartStream(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        // 첫 경계값 앞에는 CRLF가 없으므로 채워 넣고 프리앰블을 빈 파트처럼 건너뜀
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+        current = new PartInputStream();
+    }
+    
+    public static String boundaryOf(String contentType) {
+        String boundary = null;
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (MediaType.MULTIPART_FORM_DATA.includes(mediaType)) {
+                boundary = mediaType.getParameter("boundary");
+            }
+        }
+        if (boundary != null && boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("multipart/form-data 경계값이 올바르지 않습니다.");
+        }
+        return boundary;
+    }
+    
+    // 다음 파트의 헤더를 읽고 본문 스트림을 반환, 마지막 파트 이후에는 null
+    // 이전 파트 본문 중 읽지 않은 부분은 버림
+    public Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        current.skipRemaining();
+        
+        int first = readByte();
+        int second = readByte();
+        if (first == '-' && second == '-') {
+            finished = true;
+            return null;
+        }
+        if (first != '\r' || second != '\n') {
+            throw new IOException("multipart 경계값 뒤 형식이 올바르지 않습니다.");
+        }
+        
+        Part part = readHeaders();
+        current = new PartInputStream();
+        part.body = current;
+        return part;
+    }
+    
+    private Part readHeaders() throws IOException {
+        Part part = new Part();
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int total = 0;
+        while (true) {
+            int b = readByte();
+            if (++total > MAX_HEADER_BYTES) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+            String header = new String(line.toByteArray(), StandardCharsets.UTF_8).trim();
+            line.reset();
+            if (header.isEmpty()) {
+                return part;
+            }
+            int colon = header.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String name = header.substring(0, colon).trim();
+            String value = header.substring(colon + 1).trim();
+            if ("Content-Disposition".equalsIgnoreCase(name)) {
+                ContentDisposition disposition = ContentDisposition.parse(value);
+                part.name = disposition.getName();
+                part.fileName = disposition.getFilename();
+            } else if ("Content-Type".equalsIgnoreCase(name)) {
+                part.contentType = value;
+            }
+        }
+    }
+    
+    private int readByte() throws IOException {
+        if (head == tail && !fill()) {
+            throw new EOFException("multipart 본문이 중간에 끝났습니다.");
+        }
+        return buffer[head++] & 0xff;
+    }
+    
+    // 남은 바이트를 버퍼 앞으로 옮기고 이어서 읽음, 입력이 끝났으면 false
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int n = in.read(buffer, tail, buffer.length - tail);
+        if (n < 0) {
+            return false;
+        }
+        tail += n;
+        return true;
+    }
+    
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    public static class Part {
+        
+        private String name;
+        private String fileName;
+        private String contentType;
+        private InputStream body;
+        
+        public String getName() { return name; }
+        public String getFileName() { return fileName; }
+        public String getContentType() { return contentType; }
+        public InputStream getBody() { return body; }
+    }
+    
+    // 구분자 직전까지만 읽는 파트 본문 - 구분자 일부가 걸쳐 있을 수 있는 끝부분은 다음 읽기까지 남겨 둠
+    private class PartInputStream extends InputStream {
+        
+        private boolean done;
+        
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int n = read(single, 0, 1);
+            return n < 0 ? -1 : single[0] & 0xff;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int index = indexOfDelimiter();
+                if (index == head) {
+                    head += delimiter.length;
+                    done = true;
+                    return -1;
+                }
+                int safe = index >= 0 ? index - head : tail - head - (delimiter.length - 1);
+                if (safe > 0) {
+                    int n = Math.min(safe, len);
+                    System.arraycopy(buffer, head, b, off, n);
+                    head += n;
+                    return n;
+                }
+                if (!fill()) {
+                    throw new EOFException("multipart 본문이 중간에 끝났습니다.");
+                }
+            }
+        }
+        
+        void skipRemaining() throws IOException {
+            byte[] discard = new byte[8192];
+            while (read(discard, 0, discard.length) >= 0) {
+                // 읽고 버림
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.lms.backend.infrastructure.file;
+
+import java.nio.file.Path;
+
+// 임시 위치에 기록된 업로드 (원본 저장소로 옮기거나 버림)
+public class StagedFile {
+    
+    private final Path path;
+    private final long size;
+    private final String checksum;
+    
+    public StagedFile(Path path, long size, String checksum) {
+        this.path = path;
+        this.size = size;
+        this.checksum = checksum;
+    }
+    
+    public Path getPath() { return path; }
+    public long getSize() { return size; }
+    
+    // SHA-256 (16진수 소문자)
+    public String getChecksum() { return checksum; }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.lms.backend.infrastructure.search;
+
+// 한글 자모 분해 - 완성형 음절을 호환 자모로 풀어 입력 중인 글자("데이ㅌ")도 접두어로 일치시키기 위해 사용
+// 겹모음/겹받침은 키 입력 단위로 분해 (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ), 영문은 소문자로, 연속 공백은 한 칸으로 정규화
+public final class HangulJamo {
+    
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+    
+    private static final String[] CHO = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+        "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    
+    // 단독으로 입력된 호환 자모 중 겹자모 (ㄳ ~ ㅢ 범위)
+    private static final char COMPAT_BASE = 0x3131;
+    private static final String[] COMPAT_COMPOUND = new String[0x3163 - COMPAT_BASE + 1];
+    
+    static {
+        COMPAT_COMPOUND['ㄳ' - COMPAT_BASE] = "ㄱㅅ";
+        COMPAT_COMPOUND['ㄵ' - COMPAT_BASE] = "ㄴㅈ";
+        COMPAT_COMPOUND['ㄶ' - COMPAT_BASE] = "ㄴㅎ";
+        COMPAT_COMPOUND['ㄺ' - COMPAT_BASE] = "ㄹㄱ";
+        COMPAT_COMPOUND['ㄻ' - COMPAT_BASE] = "ㄹㅁ";
+        COMPAT_COMPOUND['ㄼ' - COMPAT_BASE] = "ㄹㅂ";
+        COMPAT_COMPOUND['ㄽ' - COMPAT_BASE] = "ㄹㅅ";
+        COMPAT_COMPOUND['ㄾ' - COMPAT_BASE] = "ㄹㅌ";
+        COMPAT_COMPOUND['ㄿ' - COMPAT_BASE] = "ㄹㅍ";
+        COMPAT_COMPOUND['ㅀ' - COMPAT_BASE] = "ㄹㅎ";
+        COMPAT_COMPOUND['ㅄ' - COMPAT_BASE] = "ㅂㅅ";
+        COMPAT_COMPOUND['ㅘ' - COMPAT_BASE] = "ㅗㅏ";
+        COMPAT_COMPOUND['ㅙ' - COMPAT_BASE] = "ㅗㅐ";
+        COMPAT_COMPOUND['ㅚ' - COMPAT_BASE] = "ㅗㅣ";
+        COMPAT_COMPOUND['ㅝ' - COMPAT_BASE] = "ㅜㅓ";
+        COMPAT_COMPOUND['ㅞ' - COMPAT_BASE] = "ㅜㅔ";
+        COMPAT_COMPOUND['ㅟ' - COMPAT_BASE] = "ㅜㅣ";
+        COMPAT_COMPOUND['ㅢ' - COMPAT_BASE] = "ㅡㅣ";
+    }
+    
+    private HangulJamo() {}
+    
+    public static String decompose(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            appendDecomposed(out, c);
+        }
+        return out.toString();
+    }
+    
+    private static void appendDecomposed(StringBuilder out, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            out.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+               .append(JUNG[(index / JONG_COUNT) % JUNG_COUNT])
+               .append(JONG[index % JONG_COUNT]);
+            return;
+        }
+        if (c >= COMPAT_BASE && c - COMPAT_BASE < COMPAT_COMPOUND.length && COMPAT_COMPOUND[c - COMPAT_BASE] != null) {
+            out.append(COMPAT_COMPOUND[c - COMPAT_BASE]);
+            return;
+        }
+        out.append(Character.toLowerCase(c));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.lms.backend.infrastructure.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lucene 인덱스 공통 처리 - 문서 ID 필드 기준 갱신/삭제, 즉시 반영(NRT), BM25 검색
+// 디스크 디렉터리면 커밋한 내용이 다음 기동 때 그대로 열리고, 커밋 정보로 동기화 시점과 재색인 세대를 이어 감
+public abstract class LuceneIndex {
+    
+    protected static final String FIELD_ID = "id";
+    private static final String FIELD_GENERATION = "generation";
+    private static final String COMMIT_SYNCED_AT = "syncedAt";
+    private static final String COMMIT_GENERATION = "generation";
+    
+    protected final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicLong generation;
+    private final Instant syncedAt;
+    
+    protected LuceneIndex(Analyzer analyzer, Directory directory) {
+        this.analyzer = analyzer;
+        this.directory = directory;
+        try {
+            Map<String, String> commitData = DirectoryReader.indexExists(directory)
+                    ? SegmentInfos.readLatestCommit(directory).getUserData() : Collections.emptyMap();
+            this.generation = new AtomicLong(Long.parseLong(commitData.getOrDefault(COMMIT_GENERATION, "0")));
+            this.syncedAt = commitData.containsKey(COMMIT_SYNCED_AT)
+                    ? Instant.ofEpochMilli(Long.parseLong(commitData.get(COMMIT_SYNCED_AT))) : null;
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스를 초기화할 수 없습니다.", e);
+        }
+    }
+    
+    protected static Directory openDirectory(Path path) {
+        try {
+            return FSDirectory.open(Files.createDirectories(path));
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스 디렉터리를 열 수 없습니다: " + path, e);
+        }
+    }
+    
+    protected void update(Long id, Document document) {
+        try {
+            write(id, document);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new IllegalStateException("색인에 실패했습니다.", e);
+        }
+    }
+    
+    // 재색인 배치 반영 - 문서 ID 기준으로 덮어쓰므로 기존 문서는 교체 전까지 그대로 검색됨
+    protected void updateDocuments(List<Document> documents) {
+        try {
+            for (Document document : documents) {
+                write(Long.valueOf(document.get(FIELD_ID)), document);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new IllegalStateException("색인에 실패했습니다.", e);
+        }
+    }
+    
+    public void delete(Long id) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(id)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new IllegalStateException("색인 삭제에 실패했습니다.", e);
+        }
+    }
+    
+    // 재색인 시작 - 이후 색인되는 문서는 새 세대로 표시됨
+    public long beginRebuild() {
+        return generation.incrementAndGet();
+    }
+    
+    // 재색인 완료 - 이번 세대에 다시 색인되지 않은 문서(DB에서 사라진 문서) 삭제
+    public void finishRebuild(long rebuildGeneration) {
+        Query stale = new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_GENERATION, String.valueOf(rebuildGeneration))), BooleanClause.Occur.MUST_NOT)
+                .build();
+        try {
+            writer.deleteDocuments(stale);
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스 갱신에 실패했습니다.", e);
+        }
+    }
+    
+    // 기동 시 열린 마지막 커밋의 동기화 시점 (이 시점 이전 변경은 모두 색인됨, 완성된 커밋이 없으면 null)
+    public Instant getSyncedAt() {
+        return syncedAt;
+    }
+    
+    // 지금까지의 변경을 디스크에 반영하고 동기화 시점 기록
+    public void commit(Instant syncedAt) {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(COMMIT_SYNCED_AT, String.valueOf(syncedAt.toEpochMilli()));
+        commitData.put(COMMIT_GENERATION, String.valueOf(generation.get()));
+        try {
+            writer.setLiveCommitData(commitData.entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스 커밋에 실패했습니다.", e);
+        }
+    }
+    
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스 갱신에 실패했습니다.", e);
+        }
+    }
+    
+    protected SearchHits search(Query query, int offset, int limit) {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopScoreDocCollector collector = TopScoreDocCollector.create(offset + limit, Integer.MAX_VALUE);
+            searcher.search(query, collector);
+            TopDocs topDocs = collector.topDocs(offset, limit);
+            
+            List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                ids.add(Long.valueOf(searcher.doc(scoreDoc.doc, Collections.singleton(FIELD_ID)).get(FIELD_ID)));
+            }
+            return new SearchHits(ids, collector.getTotalHits());
+        } catch (IOException e) {
+            throw new IllegalStateException("검색에 실패했습니다.", e);
+        } finally {
+            release(searcher);
+        }
+    }
+    
+    // 한 글자 검색어는 bigram이 없으므로 해당 글자를 포함한 토큰으로 검색
+    protected Query containsQuery(String field, String keyword) {
+        String term = analyzer.normalize(field, keyword).utf8ToString();
+        if (term.isEmpty()) {
+            return null;
+        }
+        if (term.equals("*") || term.equals("?") || term.equals("\\")) {
+            term = "\\" + term;
+        }
+        return new WildcardQuery(new Term(field, "*" + term + "*"));
+    }
+    
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+    
+    private void write(Long id, Document document) throws IOException {
+        document.add(new StringField(FIELD_GENERATION, String.valueOf(generation.get()), Field.Store.NO));
+        writer.updateDocument(new Term(FIELD_ID, String.valueOf(id)), document);
+    }
+    
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 인덱스 해제에 실패했습니다.", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.lms.backend.infrastructure.search;
+
+import java.util.List;
+
+// 검색 결과 - 관련도 순 ID와 전체 일치 건수
+public class SearchHits {
+    
+    private final List<Long> ids;
+    private final long totalHits;
+    
+    public SearchHits(List<Long> ids, long totalHits) {
+        this.ids = ids;
+        this.totalHits = totalHits;
+    }
+    
+    public List<Long> getIds() { return ids; }
+    public long getTotalHits() { return totalHits; }
+}
\ No newline at end of file
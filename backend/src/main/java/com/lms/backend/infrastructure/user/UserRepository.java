@@ -18,6 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByEmail(String email);
     
+    @Query("SELECT u.tokenEpoch FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenEpochById(@Param("id") Long id);
+    
     List<User> findByUserType(UserType userType);
     
     List<User> findByStatus(UserStatus status);
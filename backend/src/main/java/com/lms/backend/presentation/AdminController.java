@@ -1,5 +1,6 @@
 package com.lms.backend.presentation;
 
+import com.lms.backend.application.board.PostSearchIndexer;
 import com.lms.backend.application.user.UserService;
 import com.lms.backend.application.user.dto.UserResponse;
 import com.lms.backend.domain.user.User;
@@ -18,10 +19,12 @@ import java.util.stream.Collectors;
 public class AdminController {
     
     private final UserService userService;
+    private final PostSearchIndexer postSearchIndexer;
     
     @Autowired
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService, PostSearchIndexer postSearchIndexer) {
         this.userService = userService;
+        this.postSearchIndexer = postSearchIndexer;
     }
     
     @GetMapping("/users")
@@ -68,4 +71,11 @@ public class AdminController {
         Map<String, Object> stats = userService.getDashboardStats();
         return ResponseEntity.ok(stats);
     }
+    
+    // 게시글 검색 인덱스 재생성 (DB 기준)
+    @PostMapping("/search/posts/rebuild")
+    public ResponseEntity<Map<String, String>> rebuildPostSearchIndex() {
+        postSearchIndexer.rebuild();
+        return ResponseEntity.ok(Map.of("message", "게시글 검색 인덱스가 재생성되었습니다."));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.lms.backend.presentation;
 
+import com.lms.backend.application.user.UserCacheInvalidator;
+import com.lms.backend.application.user.UserPrincipal;
 import com.lms.backend.application.user.UserService;
 import com.lms.backend.application.user.dto.*;
 import com.lms.backend.config.security.JwtTokenProvider;
+import com.lms.backend.config.security.PasswordHashingExecutor;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
@@ -29,44 +36,61 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider tokenProvider;
     
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    @Autowired
+    private UserCacheInvalidator userCacheInvalidator;
+    
+    // BCrypt 검증은 전용 실행기에서 수행 (Tomcat 요청 스레드 점유 방지)
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                    loginRequest.getEmail(),
-                    loginRequest.getPassword()
-                )
-            );
-            
-            String jwt = tokenProvider.generateToken(authentication);
-            UserResponse user = userService.findByEmail(loginRequest.getEmail());
-            
-            return ResponseEntity.ok(new AuthResponse(jwt, user));
-            
-        } catch (AuthenticationException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "이메일 또는 비밀번호가 올바르지 않습니다");
-            return ResponseEntity.badRequest().body(error);
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return passwordHashingExecutor.submit("login", () -> {
+            try {
+                // 로그인은 캐시를 거치지 않고 DB에서 다시 조회 (캐시도 최신 정보로 교체)
+                userCacheInvalidator.evict(loginRequest.getEmail());
+                Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                        loginRequest.getEmail(),
+                        loginRequest.getPassword()
+                    )
+                );
+                
+                String jwt = tokenProvider.generateToken(authentication);
+                
+                // 인증 시 새로 조회한 사용자 정보 재사용
+                UserResponse user = authentication.getPrincipal() instanceof UserPrincipal
+                        ? ((UserPrincipal) authentication.getPrincipal()).getProfile()
+                        : userService.findByEmail(loginRequest.getEmail());
+                
+                return ResponseEntity.ok(new AuthResponse(jwt, user));
+                
+            } catch (AuthenticationException e) {
+                Map<String, String> error = new HashMap<>();
+                error.put("message", "이메일 또는 비밀번호가 올바르지 않습니다");
+                return ResponseEntity.badRequest().body(error);
+            }
+        });
     }
     
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest signupRequest) {
-        try {
-            UserResponse user = userService.signup(signupRequest);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "회원가입이 완료되었습니다. 관리자 승인 후 이용 가능합니다.");
-            response.put("user", user);
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (IllegalArgumentException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
-        }
+    public CompletableFuture<ResponseEntity<?>> signup(@Valid @RequestBody SignupRequest signupRequest) {
+        return passwordHashingExecutor.submit("signup", () -> {
+            try {
+                UserResponse user = userService.signup(signupRequest);
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("message", "회원가입이 완료되었습니다. 관리자 승인 후 이용 가능합니다.");
+                response.put("user", user);
+                
+                return ResponseEntity.ok(response);
+                
+            } catch (IllegalArgumentException e) {
+                Map<String, String> error = new HashMap<>();
+                error.put("message", e.getMessage());
+                return ResponseEntity.badRequest().body(error);
+            }
+        });
     }
     
     @GetMapping("/me")
@@ -80,4 +104,14 @@ public class AuthController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+    
+    // 해싱 실행기 포화 시 즉시 거절
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleRejectedExecutionException(RejectedExecutionException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingExecutor.getRetryAfterSeconds()))
+                .body(error);
+    }
 }
\ No newline at end of file
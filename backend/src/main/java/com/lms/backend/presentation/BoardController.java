@@ -1,40 +1,58 @@
 package com.lms.backend.presentation;
 
 import com.lms.backend.application.board.BoardService;
+import com.lms.backend.application.board.BoardStatsService;
+import com.lms.backend.application.board.NoticeListCache;
 import com.lms.backend.application.board.PostService;
+import com.lms.backend.application.board.ViewerFingerprint;
 import com.lms.backend.application.board.dto.*;
+import com.lms.backend.application.common.CursorPage;
+import com.lms.backend.application.common.ResourceVersions;
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.config.security.CurrentUser;
 import com.lms.backend.domain.board.BoardType;
-import com.lms.backend.domain.user.User;
-import com.lms.backend.infrastructure.user.UserRepository;
+import com.lms.backend.infrastructure.board.PostValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/board")
 @CrossOrigin(origins = "*")
 public class BoardController {
     
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
     private final PostService postService;
     private final BoardService boardService;
-    private final UserRepository userRepository;
+    private final NoticeListCache noticeListCache;
+    private final BoardStatsService boardStatsService;
+    private final ResourceVersions resourceVersions;
     
     @Autowired
-    public BoardController(PostService postService, BoardService boardService, UserRepository userRepository) {
+    public BoardController(PostService postService, BoardService boardService, NoticeListCache noticeListCache,
+                           BoardStatsService boardStatsService, ResourceVersions resourceVersions) {
         this.postService = postService;
         this.boardService = boardService;
-        this.userRepository = userRepository;
+        this.noticeListCache = noticeListCache;
+        this.boardStatsService = boardStatsService;
+        this.resourceVersions = resourceVersions;
     }
     
     // 게시글 목록 조회
@@ -43,7 +61,15 @@ public class BoardController {
             @PathVariable BoardType boardType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            WebRequest webRequest) {
+        
+        // 데이터 조회 전에 버전을 읽어 조회 중 변경이 생기면 다음 요청에서 새 ETag가 나가도록 함
+        ResourceVersions.Version version = resourceVersions.board(boardType);
+        if (webRequest.checkNotModified(ConditionalRequests.listTag("posts", version, webRequest, null),
+                ConditionalRequests.listLastModified(version))) {
+            return null;
+        }
         
         Pageable pageable = PageRequest.of(page, size);
         Page<PostResponse> posts = postService.getPosts(boardType, keyword, pageable);
@@ -56,14 +82,44 @@ public class BoardController {
         response.put("hasNext", posts.hasNext());
         response.put("hasPrevious", posts.hasPrevious());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
+    }
+    
+    // 커서 기반 게시글 목록 조회 (전체 건수 없이 다음 커서만 반환)
+    @GetMapping("/cursor/{boardType}")
+    public ResponseEntity<Map<String, Object>> getPostsByCursor(
+            @PathVariable BoardType boardType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean readableOnly,
+            @CurrentUser UserPrincipal currentUser,
+            WebRequest webRequest) {
+        
+        ResourceVersions.Version version = resourceVersions.board(boardType);
+        if (webRequest.checkNotModified(ConditionalRequests.listTag("cursor", version, webRequest, currentUser),
+                ConditionalRequests.listLastModified(version))) {
+            return null;
+        }
+        
+        CursorPage<PostResponse> posts = boardService.getPostsByCursor(boardType, cursor, size, currentUser, readableOnly);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts.getItems());
+        response.put("nextCursor", posts.getNextCursor());
+        response.put("hasNext", posts.hasNext());
+        
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
     }
     
-    // 공지사항 목록 조회
+    // 공지사항 목록 조회 (캐시된 JSON 응답)
     @GetMapping("/{boardType}/notices")
-    public ResponseEntity<List<PostResponse>> getNotices(@PathVariable BoardType boardType) {
-        List<PostResponse> notices = postService.getNotices(boardType);
-        return ResponseEntity.ok(notices);
+    public ResponseEntity<byte[]> getNotices(
+            @PathVariable BoardType boardType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        NoticeListCache.CachedResponse notices = noticeListCache.get("notices:" + boardType,
+                () -> postService.getNotices(boardType));
+        return cachedJson(notices, ifNoneMatch);
     }
     
     // 게시글 상세 조회
@@ -71,12 +127,17 @@ public class BoardController {
     public ResponseEntity<PostResponse> getPost(
             @PathVariable BoardType boardType,
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         
-        User currentUser = getCurrentUser(authentication);
-        PostResponse post = postService.getPost(id, currentUser);
+        long fingerprint = viewerFingerprint(currentUser, request);
+        if (notModified(boardService.findVisibleValidator(id, currentUser), webRequest, fingerprint)) {
+            return null;
+        }
         
-        return ResponseEntity.ok(post);
+        PostResponse post = postService.getPost(id, currentUser, fingerprint);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(post);
     }
     
     // 게시글 작성 (관리자만 공지사항 작성 가능)
@@ -85,9 +146,8 @@ public class BoardController {
     public ResponseEntity<PostResponse> createPost(
             @PathVariable BoardType boardType,
             @Valid @RequestBody PostRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(401).build();
         }
@@ -105,9 +165,8 @@ public class BoardController {
             @PathVariable BoardType boardType,
             @PathVariable Long id,
             @Valid @RequestBody PostRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(401).build();
         }
@@ -121,9 +180,8 @@ public class BoardController {
     public ResponseEntity<Map<String, String>> deletePost(
             @PathVariable BoardType boardType,
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(401).build();
         }
@@ -137,14 +195,8 @@ public class BoardController {
     
     // 게시판 통계
     @GetMapping("/{boardType}/stats")
-    public ResponseEntity<Map<String, Object>> getBoardStats(@PathVariable BoardType boardType) {
-        long totalPosts = postService.getPostCount(boardType);
-        
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalPosts", totalPosts);
-        stats.put("boardType", boardType);
-        stats.put("boardTypeName", boardType.getDisplayName());
-        
+    public ResponseEntity<BoardStatsResponse> getBoardStats(@PathVariable BoardType boardType) {
+        BoardStatsResponse stats = boardStatsService.getStats(boardType);
         return ResponseEntity.ok(stats);
     }
     
@@ -154,12 +206,17 @@ public class BoardController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String keyword,
-            Authentication authentication) {
+            @RequestParam(defaultValue = "false") boolean readableOnly,
+            @CurrentUser UserPrincipal currentUser,
+            WebRequest webRequest) {
         
-        User currentUser = getCurrentUser(authentication);
-        Long userId = currentUser != null ? currentUser.getId() : null;
+        ResourceVersions.Version version = resourceVersions.board(BoardType.QNA);
+        if (webRequest.checkNotModified(ConditionalRequests.listTag("qna", version, webRequest, currentUser),
+                ConditionalRequests.listLastModified(version))) {
+            return null;
+        }
         
-        Page<PostResponse> posts = boardService.getQnAPosts(page, size, keyword, userId);
+        Page<PostResponse> posts = boardService.getQnAPosts(page, size, keyword, currentUser, readableOnly);
         
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts.getContent());
@@ -169,33 +226,36 @@ public class BoardController {
         response.put("hasNext", posts.hasNext());
         response.put("hasPrevious", posts.hasPrevious());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
     }
     
     @GetMapping("/qna/{id}")
     public ResponseEntity<PostDetailResponse> getQnAPost(
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         
-        User currentUser = getCurrentUser(authentication);
-        Long userId = currentUser != null ? currentUser.getId() : null;
+        long fingerprint = viewerFingerprint(currentUser, request);
+        if (notModified(boardService.findVisibleValidator(id, currentUser), webRequest, fingerprint)) {
+            return null;
+        }
         
-        PostDetailResponse post = boardService.getPostDetail(id, userId);
-        return ResponseEntity.ok(post);
+        PostDetailResponse post = boardService.getPostDetail(id, currentUser, fingerprint);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(post);
     }
     
     @PostMapping("/qna")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<PostResponse> createQnAPost(
             @Valid @RequestBody PostCreateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        PostResponse post = boardService.createQnAPost(request, currentUser.getId());
+        PostResponse post = boardService.createQnAPost(request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(post);
     }
     
@@ -204,14 +264,13 @@ public class BoardController {
     public ResponseEntity<PostResponse> updateQnAPost(
             @PathVariable Long id,
             @Valid @RequestBody PostUpdateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        PostResponse post = boardService.updatePost(id, request, currentUser.getId());
+        PostResponse post = boardService.updatePost(id, request, currentUser);
         return ResponseEntity.ok(post);
     }
     
@@ -219,14 +278,13 @@ public class BoardController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Map<String, String>> deleteQnAPost(
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        boardService.deletePost(id, currentUser.getId());
+        boardService.deletePost(id, currentUser);
         return ResponseEntity.ok(Map.of("message", "게시글이 성공적으로 삭제되었습니다."));
     }
     
@@ -235,30 +293,72 @@ public class BoardController {
     public ResponseEntity<CommentResponse> createComment(
             @PathVariable Long postId,
             @Valid @RequestBody CommentCreateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        CommentResponse comment = boardService.createComment(postId, request, currentUser.getId());
+        CommentResponse comment = boardService.createComment(postId, request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(comment);
     }
     
+    // 커서 기반 댓글 목록 (게시글 상세에 포함되지 않은 나머지 댓글)
+    @GetMapping("/qna/{postId}/comments")
+    public ResponseEntity<Map<String, Object>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @CurrentUser UserPrincipal currentUser,
+            WebRequest webRequest) {
+        
+        Optional<PostValidator> validator = boardService.findVisibleValidator(postId, currentUser);
+        if (validator.isPresent()) {
+            ResourceVersions.Version version = resourceVersions.board(validator.get().getBoardType());
+            if (webRequest.checkNotModified(ConditionalRequests.listTag("comments-" + postId, version, webRequest, currentUser),
+                    ConditionalRequests.listLastModified(version))) {
+                return null;
+            }
+        }
+        
+        CursorPage<CommentResponse> comments = boardService.getComments(postId, cursor, size, currentUser);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("comments", comments.getItems());
+        response.put("nextCursor", comments.getNextCursor());
+        response.put("hasNext", comments.hasNext());
+        
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
+    }
+    
+    // 전체 댓글 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/qna/{postId}/comments/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @PathVariable Long postId,
+            @CurrentUser UserPrincipal currentUser) {
+        
+        // 권한 오류는 스트리밍 시작 전에 일반 오류 응답으로 반환
+        boardService.checkCanView(postId, currentUser);
+        
+        StreamingResponseBody body = out -> boardService.exportComments(postId, currentUser, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"post-" + postId + "-comments.ndjson\"")
+                .body(body);
+    }
+    
     @PutMapping("/comments/{commentId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<CommentResponse> updateComment(
             @PathVariable Long commentId,
             @Valid @RequestBody CommentUpdateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        CommentResponse comment = boardService.updateComment(commentId, request, currentUser.getId());
+        CommentResponse comment = boardService.updateComment(commentId, request, currentUser);
         return ResponseEntity.ok(comment);
     }
     
@@ -266,26 +366,36 @@ public class BoardController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Map<String, String>> deleteComment(
             @PathVariable Long commentId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        boardService.deleteComment(commentId, currentUser.getId());
+        boardService.deleteComment(commentId, currentUser);
         return ResponseEntity.ok(Map.of("message", "댓글이 성공적으로 삭제되었습니다."));
     }
     
     // Notice 게시판 전용 엔드포인트
     @GetMapping("/notice")
-    public ResponseEntity<Map<String, Object>> getNoticePosts(
+    public ResponseEntity<?> getNoticePosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        Page<PostResponse> posts = boardService.getNoticePosts(page, size, keyword);
+        // 검색어 없는 앞쪽 페이지만 캐시
+        if ((keyword == null || keyword.trim().isEmpty()) && noticeListCache.cachesPage(page, size)) {
+            NoticeListCache.CachedResponse posts = noticeListCache.get("notice:" + page + ":" + size,
+                    () -> noticePageBody(boardService.getNoticePosts(page, size, null)));
+            return cachedJson(posts, ifNoneMatch);
+        }
         
+        Page<PostResponse> posts = boardService.getNoticePosts(page, size, keyword);
+        return ResponseEntity.ok(noticePageBody(posts));
+    }
+    
+    private Map<String, Object> noticePageBody(Page<PostResponse> posts) {
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts.getContent());
         response.put("currentPage", posts.getNumber());
@@ -293,28 +403,48 @@ public class BoardController {
         response.put("totalElements", posts.getTotalElements());
         response.put("hasNext", posts.hasNext());
         response.put("hasPrevious", posts.hasPrevious());
-        
-        return ResponseEntity.ok(response);
+        return response;
+    }
+    
+    // ETag가 일치하면 304, 아니면 직렬화된 바이트를 그대로 전송
+    private ResponseEntity<byte[]> cachedJson(NoticeListCache.CachedResponse cached, String ifNoneMatch) {
+        if (ifNoneMatch != null && ifNoneMatch.contains(cached.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.getBody());
     }
     
     @GetMapping("/notice/{id}")
-    public ResponseEntity<PostDetailResponse> getNoticePost(@PathVariable Long id) {
-        PostDetailResponse post = boardService.getPostDetail(id, null); // 공지사항은 누구나 볼 수 있음
-        return ResponseEntity.ok(post);
+    public ResponseEntity<PostDetailResponse> getNoticePost(
+            @PathVariable Long id,
+            @CurrentUser UserPrincipal currentUser,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        
+        // 공지사항은 누구나 볼 수 있음 (조회자 식별에만 사용자 정보 사용)
+        long fingerprint = viewerFingerprint(currentUser, request);
+        if (notModified(boardService.findVisibleValidator(id, null), webRequest, fingerprint)) {
+            return null;
+        }
+        
+        PostDetailResponse post = boardService.getPostDetail(id, null, fingerprint);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(post);
     }
     
     @PostMapping("/notice")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PostResponse> createNoticePost(
             @Valid @RequestBody PostCreateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        PostResponse post = boardService.createNoticePost(request, currentUser.getId());
+        PostResponse post = boardService.createNoticePost(request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(post);
     }
     
@@ -323,14 +453,13 @@ public class BoardController {
     public ResponseEntity<PostResponse> updateNoticePost(
             @PathVariable Long id,
             @Valid @RequestBody PostUpdateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        PostResponse post = boardService.updatePost(id, request, currentUser.getId());
+        PostResponse post = boardService.updatePost(id, request, currentUser);
         return ResponseEntity.ok(post);
     }
     
@@ -338,14 +467,13 @@ public class BoardController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Map<String, String>> deleteNoticePost(
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         
-        User currentUser = getCurrentUser(authentication);
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        boardService.deletePost(id, currentUser.getId());
+        boardService.deletePost(id, currentUser);
         return ResponseEntity.ok(Map.of("message", "공지사항이 성공적으로 삭제되었습니다."));
     }
     
@@ -359,12 +487,21 @@ public class BoardController {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
     }
     
-    private User getCurrentUser(Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
+    // 게시글/댓글 변경이 없으면 조회만 기록하고 304 (본문/댓글 조회 생략)
+    private boolean notModified(Optional<PostValidator> visible, WebRequest webRequest, long viewerFingerprint) {
+        if (!visible.isPresent()) {
+            return false;
         }
-        
-        String email = authentication.getName();
-        return userRepository.findByEmail(email).orElse(null);
+        PostValidator validator = visible.get();
+        String etag = ConditionalRequests.entityTag("post", validator.getId(), validator.getUpdatedAt());
+        if (!webRequest.checkNotModified(etag, ConditionalRequests.toEpochMilli(validator.getUpdatedAt()))) {
+            return false;
+        }
+        boardService.recordView(validator.getId(), viewerFingerprint);
+        return true;
+    }
+    
+    private long viewerFingerprint(UserPrincipal currentUser, HttpServletRequest request) {
+        return ViewerFingerprint.of(currentUser, request.getRemoteAddr(), request.getHeader("User-Agent"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.lms.backend.presentation;
+
+import com.lms.backend.application.common.ResourceVersions;
+import com.lms.backend.application.user.UserPrincipal;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 조건부 GET(ETag/If-None-Match, Last-Modified/If-Modified-Since) 검증자 계산
+// 조회수 등 실시간 수치는 응답마다 달라질 수 있으므로 약한 ETag 사용
+final class ConditionalRequests {
+    
+    // 브라우저/프록시는 매번 재검증, 사용자별 응답이므로 공유 캐시에는 저장하지 않음
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    // 목록의 조회수 등은 범위 버전을 올리지 않으므로 이 주기마다 ETag를 바꿔 새 응답을 받게 함 (공지 목록 캐시 유지 시간과 같음)
+    private static final long LIST_TAG_BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+    
+    private ConditionalRequests() {}
+    
+    // 목록 ETag - 범위 버전 + 시간 구간 + 요청 파라미터 + 조회자 (비밀글 마스킹이 조회자마다 다름)
+    static String listTag(String scope, ResourceVersions.Version version, WebRequest request, UserPrincipal viewer) {
+        StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, String[]> param : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            key.append(param.getKey()).append('=').append(String.join(",", param.getValue())).append('&');
+        }
+        key.append("viewer=").append(viewer != null ? viewer.getId() : "");
+        String hash = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + scope + "-" + version.getValue() + "-" + listBucketStart() + "-" + hash + "\"";
+    }
+    
+    // 목록 Last-Modified - 범위 마지막 변경 시각과 현재 시간 구간 시작 중 늦은 값 (If-Modified-Since만 보내는 클라이언트도 주기마다 갱신)
+    static long listLastModified(ResourceVersions.Version version) {
+        return Math.max(version.getLastModified(), listBucketStart());
+    }
+    
+    // 상세 ETag - 엔티티 수정 시각 (댓글/첨부 변경도 게시글 수정 시각을 갱신함)
+    static String entityTag(String kind, Long id, LocalDateTime updatedAt) {
+        return "W/\"" + kind + "-" + id + "-" + toEpochMilli(updatedAt) + "\"";
+    }
+    
+    private static long listBucketStart() {
+        long now = System.currentTimeMillis();
+        return now - now % LIST_TAG_BUCKET_MILLIS;
+    }
+    
+    static long toEpochMilli(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
\ No newline at end of file
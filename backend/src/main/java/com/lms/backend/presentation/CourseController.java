@@ -1,15 +1,22 @@
 package com.lms.backend.presentation;
 
+import com.lms.backend.application.common.CursorPage;
+import com.lms.backend.application.common.ResourceVersions;
 import com.lms.backend.application.course.CourseService;
+import com.lms.backend.application.course.CourseSuggestService;
 import com.lms.backend.application.course.dto.*;
 import com.lms.backend.domain.course.CourseStatus;
+import com.lms.backend.infrastructure.course.CourseSuggestion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,10 +25,15 @@ import java.util.Map;
 public class CourseController {
     
     private final CourseService courseService;
+    private final CourseSuggestService courseSuggestService;
+    private final ResourceVersions resourceVersions;
     
     @Autowired
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, CourseSuggestService courseSuggestService,
+                            ResourceVersions resourceVersions) {
         this.courseService = courseService;
+        this.courseSuggestService = courseSuggestService;
+        this.resourceVersions = resourceVersions;
     }
     
     @GetMapping
@@ -29,7 +41,14 @@ public class CourseController {
             @RequestParam(required = false) String category,
             @RequestParam(required = false) CourseStatus status,
             @RequestParam(required = false) String search,
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        
+        ResourceVersions.Version version = resourceVersions.catalog();
+        if (webRequest.checkNotModified(ConditionalRequests.listTag("courses", version, webRequest, null),
+                ConditionalRequests.listLastModified(version))) {
+            return null;
+        }
         
         Page<CourseResponse> courses = courseService.getCourses(category, status, search, pageable);
         
@@ -41,13 +60,54 @@ public class CourseController {
             "totalPages", courses.getTotalPages()
         );
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
+    }
+    
+    // 커서 기반 과정 목록 (전체 건수 없이 다음 커서만 반환)
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> getCoursesByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) CourseStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        
+        ResourceVersions.Version version = resourceVersions.catalog();
+        if (webRequest.checkNotModified(ConditionalRequests.listTag("courses-cursor", version, webRequest, null),
+                ConditionalRequests.listLastModified(version))) {
+            return null;
+        }
+        
+        CursorPage<CourseResponse> courses = courseService.getCoursesByCursor(category, status, search, cursor, size);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("courses", courses.getItems());
+        response.put("nextCursor", courses.getNextCursor());
+        response.put("hasNext", courses.hasNext());
+        
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(response);
+    }
+    
+    // 검색창 자동완성 (과정명/강사명, 수강 인원 순)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CourseSuggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(courseSuggestService.suggest(q, limit));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<CourseResponse> getCourse(@PathVariable Long id) {
+    public ResponseEntity<CourseResponse> getCourse(@PathVariable Long id, WebRequest webRequest) {
+        // 수강 인원 변경도 수정 시각에 반영되므로 과정 자체의 수정 시각만으로 검증
+        LocalDateTime updatedAt = courseService.getCourseUpdatedAt(id);
+        String etag = ConditionalRequests.entityTag("course", id, updatedAt);
+        if (webRequest.checkNotModified(etag, ConditionalRequests.toEpochMilli(updatedAt))) {
+            return null;
+        }
+        
         CourseResponse course = courseService.getCourse(id);
-        return ResponseEntity.ok(course);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(course);
     }
     
     @PostMapping
@@ -83,4 +143,9 @@ public class CourseController {
         List<EnrollmentResponse> enrollments = courseService.getCourseEnrollments(id);
         return ResponseEntity.ok(enrollments);
     }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
 }
\ No newline at end of file
@@ -4,15 +4,20 @@ import com.lms.backend.application.board.FileUploadService;
 import com.lms.backend.application.board.dto.FileAttachmentResponse;
 import com.lms.backend.domain.board.FileAttachment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 @RestController
@@ -44,6 +49,25 @@ public class FileUploadController {
         }
     }
     
+    // 스트리밍 업로드 - 요청 본문을 임시 파일에 버퍼링하지 않고 최종 위치에 바로 기록
+    // 게시글 ID를 쿼리 파라미터로 받으면 컨테이너가 multipart 본문을 미리 파싱하므로 경로로 받음
+    @PostMapping(value = "/upload/stream/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<FileAttachmentResponse> uploadFileStream(
+            @PathVariable Long postId,
+            HttpServletRequest request) {
+        try {
+            FileAttachment attachment = fileUploadService.uploadFileStream(postId, request.getContentType(), request.getInputStream());
+            return ResponseEntity.ok(new FileAttachmentResponse(attachment));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(null);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(null);
+        }
+    }
+    
     @PostMapping("/upload/multiple")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
     public ResponseEntity<List<FileAttachmentResponse>> uploadFiles(
@@ -64,22 +88,24 @@ public class FileUploadController {
         }
     }
     
+    // Range 요청(이어받기/부분 다운로드) 지원
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) {
+    public void downloadFile(
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        FileAttachment attachment;
         try {
-            Resource resource = fileUploadService.downloadFile(fileId);
-            
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                            "attachment; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(null);
+            attachment = fileUploadService.getDownloadableFile(fileId);
         } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(null);
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
         }
+        
+        Path path = Paths.get(attachment.getFilePath());
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        RangeDownloads.send(request, response, path, attachment.getContentType(), attachment.getOriginalFileName(),
+                etagOf(attachment, lastModified), lastModified);
     }
     
     @DeleteMapping("/{fileId}")
@@ -96,4 +122,12 @@ public class FileUploadController {
                     .build();
         }
     }
+    
+    // 저장된 파일은 바뀌지 않으므로 체크섬을 강한 ETag로 사용 (체크섬이 없는 기존 파일은 ID/크기/수정 시각)
+    private String etagOf(FileAttachment attachment, long lastModified) {
+        if (attachment.getChecksum() != null) {
+            return "\"" + attachment.getChecksum() + "\"";
+        }
+        return "\"" + attachment.getId() + "-" + attachment.getFileSize() + "-" + lastModified + "\"";
+    }
 }
\ No newline at end of file
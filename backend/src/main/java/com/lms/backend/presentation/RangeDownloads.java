@@ -0,0 +1,186 @@
+package com.lms.backend.presentation;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 첨부 파일 다운로드 - Range(단일/다중, 206/416), If-Range, 조건부 GET 처리
+// 본문은 컨테이너 sendfile을 지원하면 sendfile로, 아니면 FileChannel.transferTo로 전송 (사용자 영역 복사 최소화)
+final class RangeDownloads {
+    
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    private RangeDownloads() {}
+    
+    static void send(HttpServletRequest request, HttpServletResponse response, Path path, String contentType,
+                     String fileName, String etag, long lastModified) throws IOException {
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            
+            if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+                return;
+            }
+            
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(fileName, StandardCharsets.UTF_8).build().toString());
+            
+            List<long[]> ranges = Collections.emptyList();
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+                ranges = parseRanges(rangeHeader, length);
+                if (ranges == null) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setContentLength(0);
+                    return;
+                }
+            }
+            
+            boolean headOnly = "HEAD".equals(request.getMethod());
+            if (ranges.isEmpty()) {
+                response.setContentLengthLong(length);
+                if (!headOnly) {
+                    sendRegion(request, response, path, channel, 0, length);
+                }
+            } else if (ranges.size() == 1) {
+                long[] range = ranges.get(0);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, length));
+                response.setContentLengthLong(range[1] - range[0] + 1);
+                if (!headOnly) {
+                    sendRegion(request, response, path, channel, range[0], range[1] - range[0] + 1);
+                }
+            } else {
+                sendMultipart(response, channel, ranges, contentType, length, headOnly);
+            }
+        }
+    }
+    
+    // If-Range가 현재 파일과 일치할 때만 Range 적용 (불일치하면 전체 전송)
+    // ETag는 강한 비교, 날짜는 초 단위 비교
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !ifRange.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date >= 0 && date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    // [시작, 끝] 목록, 형식 오류이거나 만족할 수 없으면 null
+    // 겹치는 구간으로 파일보다 많은 바이트를 요청하는 경우도 거부
+    private static List<long[]> parseRanges(String rangeHeader, long length) {
+        try {
+            List<long[]> ranges = new ArrayList<>();
+            long total = 0;
+            for (HttpRange range : HttpRange.parseRanges(rangeHeader)) {
+                long start = range.getRangeStart(length);
+                long end = range.getRangeEnd(length);
+                if (start >= length || end < start) {
+                    return null;
+                }
+                total += end - start + 1;
+                ranges.add(new long[]{start, end});
+            }
+            return total > length ? null : ranges;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static void sendRegion(HttpServletRequest request, HttpServletResponse response, Path path,
+                                   FileChannel channel, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨테이너가 응답 종료 후 커널 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+    
+    // multipart/byteranges - 파트 헤더 길이를 미리 계산해 Content-Length도 설정
+    private static void sendMultipart(HttpServletResponse response, FileChannel channel, List<long[]> ranges,
+                                      String contentType, long length, boolean headOnly) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(header);
+            contentLength += header.length + range[1] - range[0] + 1;
+        }
+        byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += end.length;
+        
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (headOnly) {
+            return;
+        }
+        
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            out.write(partHeaders.get(i));
+            transfer(channel, range[0], range[1] - range[0] + 1, target);
+        }
+        out.write(end);
+    }
+    
+    // transferTo는 요청보다 적게 보낼 수 있으므로 끝까지 반복
+    private static void transfer(FileChannel channel, long start, long count, WritableByteChannel target) throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) {
+                throw new IOException("파일 전송이 중단되었습니다.");
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+    
+    private static String contentRange(long[] range, long length) {
+        return "bytes " + range[0] + "-" + range[1] + "/" + length;
+    }
+}
\ No newline at end of file
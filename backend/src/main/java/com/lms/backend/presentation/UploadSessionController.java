@@ -0,0 +1,113 @@
+package com.lms.backend.presentation;
+
+import com.lms.backend.application.board.ChunkedUploadService;
+import com.lms.backend.application.board.dto.FileAttachmentResponse;
+import com.lms.backend.application.board.dto.UploadSessionRequest;
+import com.lms.backend.application.board.dto.UploadSessionResponse;
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.config.security.CurrentUser;
+import com.lms.backend.domain.board.FileAttachment;
+import com.lms.backend.domain.board.UploadSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// 이어 올리기(청크) 업로드 - tus 방식
+// POST로 세션 생성, PATCH로 Upload-Offset 위치부터 기록, HEAD로 현재 위치 조회(재개), POST .../complete로 첨부 전환
+@RestController
+@RequestMapping("/api/files/uploads")
+@PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+public class UploadSessionController {
+    
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+    static final String UPLOAD_LENGTH = "Upload-Length";
+    static final String OFFSET_OCTET_STREAM = "application/offset+octet-stream";
+    
+    private final ChunkedUploadService chunkedUploadService;
+    
+    @Autowired
+    public UploadSessionController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+    
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> createSession(
+            @Valid @RequestBody UploadSessionRequest request,
+            @CurrentUser UserPrincipal currentUser) throws IOException {
+        UploadSessionResponse session = new UploadSessionResponse(
+                chunkedUploadService.createSession(request, currentUser.getId()));
+        return ResponseEntity.created(URI.create(session.getUploadUrl()))
+                .header(UPLOAD_OFFSET, "0")
+                .body(session);
+    }
+    
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> getOffset(@PathVariable String id, @CurrentUser UserPrincipal currentUser) {
+        UploadSession session = chunkedUploadService.getSession(id, currentUser.getId());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(UPLOAD_OFFSET, String.valueOf(session.getOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(session.getLength()))
+                .build();
+    }
+    
+    // 요청 본문을 그대로 파일에 기록 (본문 전체를 메모리에 읽지 않음)
+    @PatchMapping(value = "/{id}", consumes = OFFSET_OCTET_STREAM)
+    public ResponseEntity<Void> appendChunk(
+            @PathVariable String id,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            @CurrentUser UserPrincipal currentUser,
+            HttpServletRequest request) throws IOException {
+        long newOffset = chunkedUploadService.appendChunk(id, currentUser.getId(), offset,
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.noContent()
+                .header(UPLOAD_OFFSET, String.valueOf(newOffset))
+                .build();
+    }
+    
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<FileAttachmentResponse> complete(@PathVariable String id,
+                                                           @CurrentUser UserPrincipal currentUser) throws IOException {
+        FileAttachment attachment = chunkedUploadService.complete(id, currentUser.getId());
+        return ResponseEntity.ok(new FileAttachmentResponse(attachment));
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(@PathVariable String id, @CurrentUser UserPrincipal currentUser) throws IOException {
+        chunkedUploadService.cancel(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+    
+    // 위치 불일치/동시 요청 - 클라이언트는 HEAD로 현재 위치를 확인한 뒤 재시도
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalStateException(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+    
+    // 만료되었거나 없는 세션 - 처음부터 다시 업로드
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleNoSuchElementException(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+    
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, String>> handleAccessDeniedException(AccessDeniedException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
+    }
+}
\ No newline at end of file
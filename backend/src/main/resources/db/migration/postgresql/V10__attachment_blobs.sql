@@ -0,0 +1,8 @@
+-- 내용 주소 방식 첨부 원본 (SHA-256당 파일 하나, 참조하는 첨부 행 수를 ref_count로 유지)
+-- 기존 첨부는 원본을 공유하지 않으므로 행을 만들지 않음 (삭제 시 파일 경로로 지움)
+CREATE TABLE IF NOT EXISTS attachment_blobs (
+    hash VARCHAR(64) PRIMARY KEY,
+    size INT8 NOT NULL,
+    ref_count INT4 NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
\ No newline at end of file
@@ -0,0 +1,14 @@
+-- 이어 올리기(청크) 업로드 세션
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    post_id INT8 NOT NULL,
+    uploader_id INT8 NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    upload_length INT8 NOT NULL,
+    upload_offset INT8 NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 만료 세션 정리 작업이 만료 시각 범위로 조회
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_expires_at ON upload_sessions (expires_at);
\ No newline at end of file
@@ -0,0 +1,31 @@
+-- 게시글 본문 분리 (posts.content -> post_contents) 스키마 보정 및 기존 본문 이관
+-- 이전에 기동 시마다 실행하던 보정 스크립트가 이미 적용된 DB에서도 한 번 더 실행할 수 있도록 작성
+
+CREATE TABLE IF NOT EXISTS post_contents (
+    id BIGSERIAL PRIMARY KEY,
+    text TEXT,
+    compressed_text BYTEA
+);
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS content_id BIGINT;
+
+-- 이미 이관된 DB에서는 빈 컬럼이 잠시 추가되었다가 아래에서 다시 삭제됨
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS content TEXT;
+
+-- 본문 행이 없는 게시글마다 본문 ID를 할당하고 기존 본문을 압축하지 않은 채로 옮김 (압축은 다음 수정 시 적용)
+UPDATE posts SET content_id = nextval(pg_get_serial_sequence('post_contents', 'id')) WHERE content_id IS NULL;
+
+INSERT INTO post_contents (id, text)
+SELECT p.content_id, p.content FROM posts p
+WHERE NOT EXISTS (SELECT 1 FROM post_contents c WHERE c.id = p.content_id);
+
+ALTER TABLE posts DROP COLUMN IF EXISTS content;
+
+ALTER TABLE posts ALTER COLUMN content_id SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_posts_content_id ON posts (content_id);
+
+-- 이전 보정 스크립트가 만든 제약 조건은 다시 생성
+ALTER TABLE posts DROP CONSTRAINT IF EXISTS fk_posts_content;
+
+ALTER TABLE posts ADD CONSTRAINT fk_posts_content FOREIGN KEY (content_id) REFERENCES post_contents (id);
\ No newline at end of file
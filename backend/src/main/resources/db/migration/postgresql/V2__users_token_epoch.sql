@@ -0,0 +1,2 @@
+-- 토큰 무효화 기준 (증가 시 이전에 발급된 토큰 거부)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_epoch INT NOT NULL DEFAULT 0;
\ No newline at end of file
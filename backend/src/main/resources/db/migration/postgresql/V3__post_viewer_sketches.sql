@@ -0,0 +1,5 @@
+-- 게시글별 고유 조회자 HyperLogLog 레지스터
+CREATE TABLE IF NOT EXISTS post_viewer_sketches (
+    post_id BIGINT PRIMARY KEY,
+    registers BYTEA NOT NULL
+);
\ No newline at end of file
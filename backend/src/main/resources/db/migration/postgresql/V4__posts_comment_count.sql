@@ -0,0 +1,6 @@
+-- 게시글 목록에 표시할 댓글 수 (댓글 작성/삭제 시 함께 갱신)
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS comment_count INT NOT NULL DEFAULT 0;
+
+-- 기존 게시글 백필 (이후 차이는 정기 보정 작업이 맞춤)
+UPDATE posts SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id)
+WHERE EXISTS (SELECT 1 FROM comments c WHERE c.post_id = posts.id);
\ No newline at end of file
@@ -0,0 +1,4 @@
+-- 커서(keyset) 페이지네이션용 인덱스 - 깊은 페이지도 정렬 없이 인덱스 탐색으로 조회
+CREATE INDEX IF NOT EXISTS idx_posts_board_type_created_at ON posts (board_type, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_courses_created_at ON courses (created_at, id);
\ No newline at end of file
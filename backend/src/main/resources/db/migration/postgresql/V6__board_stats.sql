@@ -0,0 +1,23 @@
+-- 게시판별 통계 (게시글/댓글 작성 시 증분 갱신, 정기 보정 작업이 실제 값과 맞춤)
+CREATE TABLE IF NOT EXISTS board_stats (
+    board_type VARCHAR(20) PRIMARY KEY,
+    total_posts INT8 NOT NULL,
+    secret_posts INT8 NOT NULL,
+    unanswered_posts INT8 NOT NULL,
+    posts_today INT8 NOT NULL,
+    stats_date DATE NOT NULL,
+    reconciled_at TIMESTAMP
+);
+
+-- 게시판별 행 생성과 기존 게시글 백필 (증분 갱신은 행이 있어야 반영됨)
+INSERT INTO board_stats (board_type, total_posts, secret_posts, unanswered_posts, posts_today, stats_date, reconciled_at)
+SELECT b.board_type,
+       (SELECT COUNT(*) FROM posts p WHERE p.board_type = b.board_type),
+       (SELECT COUNT(*) FROM posts p WHERE p.board_type = b.board_type AND p.is_secret = true),
+       (SELECT COUNT(*) FROM posts p WHERE p.board_type = b.board_type
+            AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id)),
+       (SELECT COUNT(*) FROM posts p WHERE p.board_type = b.board_type AND p.created_at >= CURRENT_DATE),
+       CURRENT_DATE,
+       CURRENT_TIMESTAMP
+FROM (VALUES ('NOTICE'), ('QNA')) AS b (board_type)
+ON CONFLICT (board_type) DO NOTHING;
\ No newline at end of file
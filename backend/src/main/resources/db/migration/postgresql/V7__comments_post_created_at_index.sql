@@ -0,0 +1,2 @@
+-- 게시글별 댓글 목록 조회용 인덱스 - 게시글의 댓글을 작성순으로 인덱스에서 바로 읽음
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_at ON comments (post_id, created_at, id);
\ No newline at end of file
@@ -0,0 +1,6 @@
+-- 목록 조건부 요청(ETag/Last-Modified)용 범위별 변경 버전 (행은 기동 시 ResourceVersions가 없는 범위만 생성)
+CREATE TABLE IF NOT EXISTS resource_versions (
+    scope VARCHAR(40) PRIMARY KEY,
+    version INT8 NOT NULL,
+    last_modified INT8 NOT NULL
+);
\ No newline at end of file
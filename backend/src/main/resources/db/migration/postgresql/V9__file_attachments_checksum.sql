@@ -0,0 +1,2 @@
+-- 첨부 저장 시 계산한 SHA-256 (다운로드 ETag로 사용, 기존 첨부는 NULL로 두고 ID/크기/수정 시각으로 ETag 계산)
+ALTER TABLE file_attachments ADD COLUMN IF NOT EXISTS checksum VARCHAR(64);
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.domain.board.FileAttachment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserType;
+import com.lms.backend.infrastructure.board.AttachmentBlobRepository;
+import com.lms.backend.infrastructure.board.FileAttachmentBatchWriter;
+import com.lms.backend.infrastructure.board.FileAttachmentRepository;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.StagedFile;
+import com.lms.backend.infrastructure.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 롤백 정리는 실제 커밋/롤백이 있어야 동작하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "file.upload.directory=" + AttachmentBlobServiceTest.UPLOAD_DIRECTORY)
+@Import({AttachmentBlobService.class, FileAttachmentBatchWriter.class, AttachmentStorage.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttachmentBlobServiceTest {
+
+    static final String UPLOAD_DIRECTORY = "target/attachment-blob-service-test";
+
+    @Autowired
+    private AttachmentBlobService attachmentBlobService;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private FileAttachmentRepository fileAttachmentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.createIndividualUser("writer@example.com", "password", "작성자",
+                "01012345678", UserType.JOB_SEEKER));
+        post = postRepository.save(Post.createQnA("자료 모음", "내용", author, false));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileAttachmentRepository.deleteAll();
+        blobRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        FileSystemUtils.deleteRecursively(Paths.get(UPLOAD_DIRECTORY));
+    }
+
+    @Test
+    void attachAll_shouldLinkAttachmentsToPost() throws IOException {
+        // given
+        StagedFile first = stage("hello");
+        StagedFile second = stage("world");
+
+        // when
+        List<FileAttachment> attachments = attachmentBlobService.attachAll(post.getId(),
+                Arrays.asList(first, second), Arrays.asList("a.txt", "b.txt"),
+                Arrays.asList("text/plain", "text/plain"));
+
+        // then - 요청 순서대로 반환되고 게시글과 원본이 연결됨
+        assertEquals("a.txt", attachments.get(0).getOriginalFileName());
+        assertEquals("b.txt", attachments.get(1).getOriginalFileName());
+        for (FileAttachment attachment : attachments) {
+            assertEquals(post.getId(), attachment.getPost().getId());
+            assertTrue(attachmentStorage.exists(attachment.getChecksum()));
+            assertEquals(1, blobRepository.findById(attachment.getChecksum()).get().getRefCount());
+        }
+        assertEquals(2, fileAttachmentRepository.count());
+    }
+
+    @Test
+    void attachAll_shouldRemoveMovedBlobsWhenTransactionRollsBack() throws IOException {
+        // given - 원본 파일을 옮긴 뒤 두 번째 첨부 행 저장이 실패 (파일명 누락)
+        StagedFile first = stage("hello");
+        StagedFile second = stage("world");
+
+        // when
+        assertThrows(RuntimeException.class, () -> attachmentBlobService.attachAll(post.getId(),
+                Arrays.asList(first, second), Arrays.asList("a.txt", null),
+                Arrays.asList("text/plain", "text/plain")));
+
+        // then - 롤백 후 이번에 옮긴 원본 파일과 원본 행이 모두 삭제됨
+        assertFalse(attachmentStorage.exists(first.getChecksum()));
+        assertFalse(attachmentStorage.exists(second.getChecksum()));
+        assertEquals(0, blobRepository.count());
+        assertEquals(0, fileAttachmentRepository.count());
+    }
+
+    @Test
+    void attachAll_shouldKeepExistingBlobWhenTransactionRollsBack() throws IOException {
+        // given - 같은 내용이 이미 다른 첨부로 저장되어 있음
+        attachmentBlobService.attachAll(post.getId(), Arrays.asList(stage("hello")),
+                Arrays.asList("a.txt"), Arrays.asList("text/plain"));
+        StagedFile duplicate = stage("hello");
+        StagedFile fresh = stage("world");
+
+        // when
+        assertThrows(RuntimeException.class, () -> attachmentBlobService.attachAll(post.getId(),
+                Arrays.asList(duplicate, fresh), Arrays.asList("a.txt", null),
+                Arrays.asList("text/plain", "text/plain")));
+
+        // then - 기존 원본은 참조 수 그대로 유지되고 새로 옮긴 원본만 삭제됨
+        assertTrue(attachmentStorage.exists(duplicate.getChecksum()));
+        assertEquals(1, blobRepository.findById(duplicate.getChecksum()).get().getRefCount());
+        assertFalse(attachmentStorage.exists(fresh.getChecksum()));
+        assertFalse(blobRepository.existsById(fresh.getChecksum()));
+    }
+
+    private StagedFile stage(String content) throws IOException {
+        return attachmentStorage.stage(new ByteArrayInputStream(content.getBytes()), 1024);
+    }
+}
\ No newline at end of file
@@ -1,15 +1,23 @@
 package com.lms.backend.application.board;
 
+import com.lms.backend.application.board.dto.CommentCreateRequest;
+import com.lms.backend.application.board.dto.PostDetailResponse;
 import com.lms.backend.application.board.dto.PostCreateRequest;
 import com.lms.backend.application.board.dto.PostResponse;
+import com.lms.backend.application.user.UserPrincipal;
 import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.Comment;
 import com.lms.backend.domain.board.Post;
 import com.lms.backend.domain.user.Authority;
 import com.lms.backend.domain.user.User;
 import com.lms.backend.domain.user.UserStatus;
 import com.lms.backend.domain.user.UserType;
 import com.lms.backend.infrastructure.board.CommentRepository;
+import com.lms.backend.infrastructure.board.CommentSummary;
 import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.PostSummary;
+import com.lms.backend.infrastructure.board.PostUniqueViewerTracker;
+import com.lms.backend.infrastructure.board.PostViewCountBuffer;
 import com.lms.backend.infrastructure.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,10 +25,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -45,6 +55,24 @@ class BoardServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PostUniqueViewerTracker uniqueViewerTracker;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Mock
+    private BoardStatsService boardStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -79,22 +107,23 @@ class BoardServiceTest {
     void getQnAPosts_shouldReturnPagedPosts() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(testPost), pageable, 1);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summaryOf(testPost, true)), pageable, 1);
         
-        when(postRepository.findByBoardTypeOrderByCreatedAtDesc(eq(BoardType.QNA), any(Pageable.class)))
+        when(postRepository.findSummariesForViewer(eq(BoardType.QNA), eq(1L), eq(false), eq(false), any(Pageable.class)))
                 .thenReturn(postPage);
-        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
         // When
-        Page<PostResponse> result = boardService.getQnAPosts(0, 10, null, testUser.getId());
+        Page<PostResponse> result = boardService.getQnAPosts(0, 10, null, UserPrincipal.from(testUser), false);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals("테스트 제목", result.getContent().get(0).getTitle());
-        assertEquals("테스트 내용", result.getContent().get(0).getContent());
+        assertNull(result.getContent().get(0).getContent()); // 목록은 본문을 조회하지 않음
         
-        verify(postRepository).findByBoardTypeOrderByCreatedAtDesc(eq(BoardType.QNA), any(Pageable.class));
+        verify(postRepository).findSummariesForViewer(eq(BoardType.QNA), eq(1L), eq(false), eq(false), any(Pageable.class));
+        verify(postRepository, never()).findById(any());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -102,20 +131,36 @@ class BoardServiceTest {
         // Given
         String keyword = "테스트";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(testPost), pageable, 1);
+        Page<PostResponse> postPage = new PageImpl<>(Arrays.asList(new PostResponse(summaryOf(testPost, true))), pageable, 1);
         
-        when(postRepository.findByBoardTypeAndKeywordContaining(eq(BoardType.QNA), eq(keyword), any(Pageable.class)))
+        when(postSearchService.search(eq(BoardType.QNA), eq(keyword), any(UserPrincipal.class), eq(true), any(Pageable.class)))
                 .thenReturn(postPage);
-        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
         // When
-        Page<PostResponse> result = boardService.getQnAPosts(0, 10, keyword, testUser.getId());
+        Page<PostResponse> result = boardService.getQnAPosts(0, 10, keyword, UserPrincipal.from(testUser), true);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         
-        verify(postRepository).findByBoardTypeAndKeywordContaining(eq(BoardType.QNA), eq(keyword), any(Pageable.class));
+        verify(postSearchService).search(eq(BoardType.QNA), eq(keyword), any(UserPrincipal.class), eq(true), any(Pageable.class));
+    }
+
+    @Test
+    void getQnAPosts_withSecretPostOfOtherUser_shouldMaskTitle() {
+        // Given
+        Post secretPost = Post.createQnA("비밀 제목", "비밀 내용", testUser, true);
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summaryOf(secretPost, false)), pageable, 1);
+        
+        when(postRepository.findSummariesForViewer(eq(BoardType.QNA), eq(-1L), eq(false), eq(false), any(Pageable.class)))
+                .thenReturn(postPage);
+
+        // When
+        Page<PostResponse> result = boardService.getQnAPosts(0, 10, null, null, false);
+
+        // Then
+        assertEquals("[비밀글]", result.getContent().get(0).getTitle());
     }
 
     @Test
@@ -128,7 +173,7 @@ class BoardServiceTest {
         when(postRepository.save(any(Post.class))).thenReturn(savedPost);
 
         // When
-        PostResponse result = boardService.createQnAPost(request, testUser.getId());
+        PostResponse result = boardService.createQnAPost(request, UserPrincipal.from(testUser));
 
         // Then
         assertNotNull(result);
@@ -151,7 +196,7 @@ class BoardServiceTest {
         when(postRepository.save(any(Post.class))).thenReturn(savedPost);
 
         // When
-        PostResponse result = boardService.createQnAPost(request, testUser.getId());
+        PostResponse result = boardService.createQnAPost(request, UserPrincipal.from(testUser));
 
         // Then
         assertNotNull(result);
@@ -167,11 +212,13 @@ class BoardServiceTest {
         // Given
         PostCreateRequest request = new PostCreateRequest("새 질문", "새 질문 내용", false);
         
+        UserPrincipal unknownUser = new UserPrincipal(999L, "unknown@example.com", null, "없는사용자",
+                UserStatus.ACTIVE, 0, Arrays.asList(Authority.USER.getRoleName()), null);
         when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> {
-            boardService.createQnAPost(request, 999L);
+            boardService.createQnAPost(request, unknownUser);
         });
         
         verify(userRepository).findById(999L);
@@ -184,15 +231,15 @@ class BoardServiceTest {
         Long postId = 1L;
         
         when(postRepository.findById(postId)).thenReturn(Optional.of(testPost));
-        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
 
         // When
-        boardService.deletePost(postId, testUser.getId());
+        boardService.deletePost(postId, UserPrincipal.from(testUser));
 
         // Then
         verify(postRepository).findById(postId);
-        verify(userRepository).findById(testUser.getId());
+        verifyNoInteractions(userRepository);
         verify(postRepository).delete(testPost);
+        verify(boardStatsService).postDeleted(testPost);
     }
 
     @Test
@@ -212,15 +259,77 @@ class BoardServiceTest {
         }
         
         when(postRepository.findById(postId)).thenReturn(Optional.of(testPost));
-        when(userRepository.findById(otherUser.getId())).thenReturn(Optional.of(otherUser));
 
         // When & Then
         assertThrows(org.springframework.security.access.AccessDeniedException.class, () -> {
-            boardService.deletePost(postId, otherUser.getId());
+            boardService.deletePost(postId, UserPrincipal.from(otherUser));
         });
         
         verify(postRepository).findById(postId);
-        verify(userRepository).findById(otherUser.getId());
+        verifyNoInteractions(userRepository);
         verify(postRepository, never()).delete(any(Post.class));
     }
+
+    @Test
+    void createComment_shouldIncrementCommentCount() {
+        // Given
+        Long postId = 1L;
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setContent("테스트 댓글");
+        
+        when(postRepository.findById(postId)).thenReturn(Optional.of(testPost));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        boardService.createComment(postId, request, UserPrincipal.from(testUser));
+
+        // Then
+        verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).adjustCommentCount(postId, 1);
+        verify(postRepository).touch(eq(postId), any(LocalDateTime.class));
+        verify(boardStatsService).commentAdded(postId);
+    }
+
+    @Test
+    void deleteComment_shouldDecrementCommentCount() {
+        // Given
+        Comment comment = new Comment("테스트 댓글", testPost, testUser);
+        
+        when(commentRepository.findById(10L)).thenReturn(Optional.of(comment));
+
+        // When
+        boardService.deleteComment(10L, UserPrincipal.from(testUser));
+
+        // Then
+        verify(commentRepository).delete(comment);
+        verify(postRepository).adjustCommentCount(1L, -1);
+        verify(postRepository).touch(eq(1L), any(LocalDateTime.class));
+        verify(boardStatsService).commentRemoved(1L);
+    }
+
+    @Test
+    void getPostDetail_shouldIncludeFirstCommentPageWithCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        CommentSummary comment = new CommentSummary(7L, "첫 댓글", "테스트사용자", 1L, createdAt, createdAt);
+        
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(commentRepository.findSliceByPostId(eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(comment), PageRequest.of(0, BoardService.DETAIL_COMMENT_COUNT), true));
+
+        // When
+        PostDetailResponse result = boardService.getPostDetail(1L, UserPrincipal.from(testUser), 42L);
+
+        // Then
+        assertEquals(1, result.getComments().size());
+        assertNotNull(result.getCommentsNextCursor());
+        verify(commentRepository, never()).findByPostIdOrderByCreatedAtAsc(any());
+    }
+
+    private PostSummary summaryOf(Post post, boolean visible) {
+        return new PostSummary(post.getId(), post.getTitle(), post.getBoardType(), post.getIsNotice(),
+                post.getIsSecret(), post.getViewCount(), post.getAuthor().getName(), post.getAuthor().getId(),
+                post.getCommentCount(), post.getCreatedAt(), post.getUpdatedAt(), visible);
+    }
 }
\ No newline at end of file
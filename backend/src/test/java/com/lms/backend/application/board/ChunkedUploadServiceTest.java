@@ -0,0 +1,177 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.application.board.dto.UploadSessionRequest;
+import com.lms.backend.domain.board.UploadSession;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.board.UploadSessionRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.StagedFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final Long UPLOADER_ID = 7L;
+
+    @Mock
+    private UploadSessionRepository sessionRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
+    @TempDir
+    Path root;
+
+    private ChunkedUploadService chunkedUploadService;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        chunkedUploadService = new ChunkedUploadService(sessionRepository, postRepository,
+                new AttachmentStorage(root.toString()), attachmentBlobService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxUploadSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(chunkedUploadService, "expireAfter", Duration.ofHours(1));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxOpenSessions", 2);
+
+        UploadSessionRequest request = new UploadSessionRequest();
+        request.setPostId(1L);
+        request.setFileName("lecture.zip");
+        request.setContentType("application/zip");
+        request.setLength(10L);
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(sessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        session = chunkedUploadService.createSession(request, UPLOADER_ID);
+        lenient().when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+    }
+
+    @Test
+    void appendChunk_shouldWriteAtOffsetAndKeepPartialChunkOnDisconnect() throws IOException {
+        // given - 6바이트를 보내다 연결이 끊긴 요청
+        when(sessionRepository.advanceOffset(eq(session.getId()), eq(0L), eq(4L), any())).thenReturn(1);
+        InputStream dropped = new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                if (sent == 4) {
+                    throw new IOException("connection reset");
+                }
+                return '0' + sent++;
+            }
+        };
+
+        // when
+        long offset = chunkedUploadService.appendChunk(session.getId(), UPLOADER_ID, 0, 6, dropped);
+
+        // then - 받은 4바이트까지만 반영, 파일은 전체 크기로 할당되어 있음
+        assertEquals(4, offset);
+        Path part = root.resolve("tmp").resolve(session.getId() + ".part");
+        assertEquals(10, Files.size(part));
+        assertEquals("0123", new String(Files.readAllBytes(part), 0, 4));
+    }
+
+    @Test
+    void appendChunk_shouldRejectMismatchedOffsetAndOtherUploader() {
+        // when & then - 현재 위치(0)가 아닌 곳부터 보내면 충돌
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.appendChunk(session.getId(), UPLOADER_ID,
+                5, 5, new ByteArrayInputStream(new byte[5])));
+        assertThrows(IllegalArgumentException.class, () -> chunkedUploadService.appendChunk(session.getId(), UPLOADER_ID,
+                0, 11, new ByteArrayInputStream(new byte[11])));
+        assertThrows(AccessDeniedException.class, () -> chunkedUploadService.appendChunk(session.getId(), 8L,
+                0, 5, new ByteArrayInputStream(new byte[5])));
+        verify(sessionRepository, never()).advanceOffset(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void complete_shouldHashWholeFileAndDeleteSession() throws IOException {
+        // given - 모든 데이터를 받은 세션
+        when(sessionRepository.advanceOffset(eq(session.getId()), eq(0L), eq(10L), any())).thenReturn(1);
+        chunkedUploadService.appendChunk(session.getId(), UPLOADER_ID, 0, 10,
+                new ByteArrayInputStream("0123456789".getBytes()));
+        ReflectionTestUtils.setField(session, "offset", 10L);
+
+        // when
+        chunkedUploadService.complete(session.getId(), UPLOADER_ID);
+
+        // then
+        ArgumentCaptor<StagedFile> staged = ArgumentCaptor.forClass(StagedFile.class);
+        verify(attachmentBlobService).attach(eq(1L), staged.capture(), eq("lecture.zip"), eq("application/zip"));
+        assertEquals(10, staged.getValue().getSize());
+        assertEquals("84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882", staged.getValue().getChecksum());
+        verify(sessionRepository).deleteById(session.getId());
+        assertFalse(Files.exists(root.resolve("tmp").resolve(session.getId() + ".part")));
+    }
+
+    @Test
+    void complete_shouldKeepSessionAndUploadForRetryWhenAttachFails() throws IOException {
+        // given - 모든 데이터를 받았지만 첫 전환은 실패
+        when(sessionRepository.advanceOffset(eq(session.getId()), eq(0L), eq(10L), any())).thenReturn(1);
+        chunkedUploadService.appendChunk(session.getId(), UPLOADER_ID, 0, 10,
+                new ByteArrayInputStream("0123456789".getBytes()));
+        ReflectionTestUtils.setField(session, "offset", 10L);
+        when(attachmentBlobService.attach(eq(1L), any(StagedFile.class), any(), any()))
+                .thenThrow(new IOException("disk full"))
+                .thenReturn(null);
+        Path part = root.resolve("tmp").resolve(session.getId() + ".part");
+
+        // when
+        assertThrows(IOException.class, () -> chunkedUploadService.complete(session.getId(), UPLOADER_ID));
+
+        // then - 세션과 업로드 파일은 그대로, 전환용 임시 파일만 정리
+        verify(sessionRepository, never()).deleteById(any());
+        assertTrue(Files.exists(part));
+        try (Stream<Path> files = Files.list(root.resolve("tmp"))) {
+            assertEquals(1, files.count());
+        }
+
+        // when - 다시 완료 요청
+        chunkedUploadService.complete(session.getId(), UPLOADER_ID);
+
+        // then
+        verify(sessionRepository).deleteById(session.getId());
+        assertFalse(Files.exists(part));
+    }
+
+    @Test
+    void createSession_shouldRejectWhenUploaderHasTooManyOpenSessions() {
+        // given
+        when(sessionRepository.countOpenByUploaderId(eq(UPLOADER_ID), any())).thenReturn(2L);
+        UploadSessionRequest request = new UploadSessionRequest();
+        request.setPostId(1L);
+        request.setFileName("lecture2.zip");
+        request.setContentType("application/zip");
+        request.setLength(10L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.createSession(request, UPLOADER_ID));
+        verify(sessionRepository, times(1)).save(any(UploadSession.class));
+    }
+}
\ No newline at end of file
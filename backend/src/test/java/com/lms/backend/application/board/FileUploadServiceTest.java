@@ -0,0 +1,122 @@
+package com.lms.backend.application.board;
+
+import com.lms.backend.infrastructure.board.FileAttachmentRepository;
+import com.lms.backend.infrastructure.board.PostRepository;
+import com.lms.backend.infrastructure.file.AttachmentStorage;
+import com.lms.backend.infrastructure.file.FileIoExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileUploadServiceTest {
+
+    private static final Long POST_ID = 1L;
+
+    @Mock
+    private FileAttachmentRepository fileAttachmentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
+    @TempDir
+    Path root;
+
+    private FileIoExecutor fileIoExecutor;
+    private FileUploadService fileUploadService;
+
+    @BeforeEach
+    void setUp() {
+        fileIoExecutor = new FileIoExecutor(2, 4);
+        fileUploadService = new FileUploadService(fileAttachmentRepository, postRepository,
+                new AttachmentStorage(root.toString()), attachmentBlobService, fileIoExecutor);
+        ReflectionTestUtils.setField(fileUploadService, "maxFileSize", DataSize.ofKilobytes(1));
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileIoExecutor.shutdown();
+    }
+
+    @Test
+    void uploadFiles_shouldDiscardStagedFilesWhenOneFailsToStage() throws IOException {
+        // given - 두 번째 파일은 기록 도중 연결이 끊김
+        MultipartFile first = new MockMultipartFile("files", "a.txt", "text/plain", "hello".getBytes());
+        MultipartFile dropped = new MockMultipartFile("files", "b.txt", "text/plain", "world".getBytes()) {
+            @Override
+            public InputStream getInputStream() {
+                return new SequenceInputStream(new ByteArrayInputStream("wor".getBytes()), new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("connection reset");
+                    }
+                });
+            }
+        };
+        MultipartFile third = new MockMultipartFile("files", "c.txt", "text/plain", "again".getBytes());
+
+        // when
+        assertThrows(RuntimeException.class,
+                () -> fileUploadService.uploadFiles(Arrays.asList(first, dropped, third), POST_ID));
+
+        // then - 첨부는 시도하지 않고 기록된 임시 파일은 모두 삭제
+        verify(attachmentBlobService, never()).attachAll(any(), any(), any(), any());
+        assertTrue(stagedFiles().isEmpty());
+    }
+
+    @Test
+    void uploadFiles_shouldDiscardStagedFilesWhenAttachAllFails() throws IOException {
+        // given - 첨부 트랜잭션이 실패
+        MultipartFile first = new MockMultipartFile("files", "a.txt", "text/plain", "hello".getBytes());
+        MultipartFile second = new MockMultipartFile("files", "b.txt", "text/plain", "world".getBytes());
+        when(attachmentBlobService.attachAll(eq(POST_ID), anyList(), anyList(), anyList()))
+                .thenThrow(new IllegalStateException("rollback"));
+
+        // when
+        assertThrows(IllegalStateException.class,
+                () -> fileUploadService.uploadFiles(Arrays.asList(first, second), POST_ID));
+
+        // then
+        verify(attachmentBlobService).attachAll(eq(POST_ID), argThat(staged -> staged.size() == 2),
+                eq(Arrays.asList("a.txt", "b.txt")), eq(Arrays.asList("text/plain", "text/plain")));
+        assertTrue(stagedFiles().isEmpty());
+    }
+
+    private List<Path> stagedFiles() throws IOException {
+        Path staging = root.resolve("tmp");
+        if (!Files.exists(staging)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(staging)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.lms.backend.application.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoticeListCacheTest {
+
+    private NoticeListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NoticeListCache(new ObjectMapper(), new SimpleMeterRegistry(), 60, 3, 50);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_shouldServeSerializedBytesUntilNoticeChanges() {
+        // when
+        NoticeListCache.CachedResponse first = cache.get("notices:NOTICE", this::load);
+        NoticeListCache.CachedResponse second = cache.get("notices:NOTICE", this::load);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("[\"공지 1\"]", new String(first.getBody(), StandardCharsets.UTF_8));
+
+        // Q&A 게시글 변경은 무효화하지 않음
+        cache.onPostChanged(new PostChangedEvent(10L, BoardType.QNA, false));
+        assertSame(first, cache.get("notices:NOTICE", this::load));
+
+        cache.onPostChanged(new PostChangedEvent(1L, BoardType.NOTICE, true));
+        NoticeListCache.CachedResponse reloaded = cache.get("notices:NOTICE", this::load);
+        assertEquals(2, loads.get());
+        assertNotEquals(first.getEtag(), reloaded.getEtag());
+    }
+
+    @Test
+    void get_shouldNotStoreResponseLoadedAcrossInvalidation() {
+        // when - 조회 도중 공지가 변경됨
+        cache.get("notices:NOTICE", () -> {
+            cache.invalidateAll();
+            return load();
+        });
+        cache.get("notices:NOTICE", this::load);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void cachesPage_shouldLimitToFirstPages() {
+        assertTrue(cache.cachesPage(0, 10));
+        assertFalse(cache.cachesPage(3, 10));
+        assertFalse(cache.cachesPage(0, 500));
+    }
+
+    private Object load() {
+        return Arrays.asList("공지 " + loads.incrementAndGet());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.lms.backend.application.common;
+
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.CommentChangedEvent;
+import com.lms.backend.domain.board.PostChangedEvent;
+import com.lms.backend.domain.course.CourseChangedEvent;
+import com.lms.backend.infrastructure.common.ResourceVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ResourceVersions.class)
+class ResourceVersionsTest {
+
+    @Autowired
+    private ResourceVersions versions;
+
+    @Autowired
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @BeforeEach
+    void setUp() {
+        versions.initialize();
+    }
+
+    @Test
+    void onPostChanged_shouldBumpOnlyThatBoard() {
+        // given
+        ResourceVersions.Version qna = versions.board(BoardType.QNA);
+        ResourceVersions.Version notice = versions.board(BoardType.NOTICE);
+
+        // when
+        versions.onPostChanged(new PostChangedEvent(1L, BoardType.QNA, false));
+
+        // then
+        assertEquals(qna.getValue() + 1, versions.board(BoardType.QNA).getValue());
+        assertEquals(notice.getValue(), versions.board(BoardType.NOTICE).getValue());
+        assertEquals(notice.getLastModified(), versions.board(BoardType.NOTICE).getLastModified());
+    }
+
+    @Test
+    void onCommentChanged_shouldAdvanceLastModifiedBySecondsEvenWithinSameSecond() {
+        // given
+        long before = versions.board(BoardType.QNA).getLastModified();
+
+        // when - 같은 초 안의 연속 변경
+        versions.onCommentChanged(new CommentChangedEvent(1L, BoardType.QNA));
+        long first = versions.board(BoardType.QNA).getLastModified();
+        versions.onCommentChanged(new CommentChangedEvent(1L, BoardType.QNA));
+        long second = versions.board(BoardType.QNA).getLastModified();
+
+        // then - If-Modified-Since(초 단위) 비교에서도 구분됨
+        assertTrue(first / 1000 > before / 1000);
+        assertTrue(second / 1000 > first / 1000);
+    }
+
+    @Test
+    void onCourseChanged_shouldBumpCatalogOnly() {
+        // given
+        long catalog = versions.catalog().getValue();
+        long qna = versions.board(BoardType.QNA).getValue();
+
+        // when
+        versions.onCourseChanged(new CourseChangedEvent(3L, false));
+
+        // then
+        assertEquals(catalog + 1, versions.catalog().getValue());
+        assertEquals(qna, versions.board(BoardType.QNA).getValue());
+    }
+
+    @Test
+    void versions_shouldBeReadFromSharedRowsSoOtherInstancesSeeTheSameValue() {
+        // given - 다른 인스턴스(별도 빈)에서의 변경
+        ResourceVersions otherInstance = new ResourceVersions(resourceVersionRepository);
+        otherInstance.initialize();
+
+        // when
+        otherInstance.onPostChanged(new PostChangedEvent(1L, BoardType.NOTICE, false));
+
+        // then
+        assertEquals(otherInstance.board(BoardType.NOTICE).getValue(), versions.board(BoardType.NOTICE).getValue());
+        assertEquals(1, versions.board(BoardType.NOTICE).getValue());
+    }
+}
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -29,6 +30,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -147,5 +151,22 @@ class UserServiceTest {
         // then
         assertNotNull(result);
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(com.lms.backend.domain.user.UserAccountChangedEvent.class));
+    }
+
+    @Test
+    void suspendUser_ShouldRevokeTokensAndPublishEvent() {
+        // given
+        Long userId = 1L;
+        user.approve();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        // when
+        userService.suspendUser(userId);
+
+        // then
+        assertEquals(1, user.getTokenEpoch());
+        assertFalse(user.isActive());
+        verify(eventPublisher).publishEvent(any(com.lms.backend.domain.user.UserAccountChangedEvent.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.lms.backend.config.security;
+
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.domain.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider tokenProvider;
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "mySecretKey123456789012345678901234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86400000L);
+        tokenProvider.init();
+
+        principal = new UserPrincipal(1L, "test@example.com", "encodedPassword", "테스트사용자",
+                UserStatus.ACTIVE, 3, Arrays.asList("ROLE_USER", "ROLE_ADMIN"), null);
+    }
+
+    @Test
+    void verify_shouldReturnPrincipalFromClaims() {
+        // given
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // when
+        Optional<VerifiedToken> verified = tokenProvider.verify(token);
+
+        // then
+        assertTrue(verified.isPresent());
+        UserPrincipal result = verified.get().toPrincipal();
+        assertEquals(1L, result.getId());
+        assertEquals("test@example.com", result.getUsername());
+        assertEquals("테스트사용자", result.getName());
+        assertEquals(3, result.getTokenEpoch());
+        assertTrue(result.hasRole("ROLE_ADMIN"));
+        assertNull(result.getPassword());
+    }
+
+    @Test
+    void verify_shouldRejectTamperedToken() {
+        // given
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        assertFalse(tokenProvider.verify(tampered).isPresent());
+        assertFalse(tokenProvider.verify("not-a-token").isPresent());
+    }
+}
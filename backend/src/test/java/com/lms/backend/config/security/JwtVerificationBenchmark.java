@@ -0,0 +1,72 @@
+package com.lms.backend.config.security;
+
+import com.lms.backend.application.user.UserPrincipal;
+import com.lms.backend.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 JWT 검증 비용 비교 (이전: 검증/파싱 2회, 키 유도 2회 / 현재: 1회)
+// 실행: 테스트 클래스패스에서 main() 실행 또는 java -cp <test classpath> org.openjdk.jmh.Main JwtVerificationBenchmark -prof gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86400000L);
+        tokenProvider.init();
+
+        UserPrincipal principal = new UserPrincipal(1L, "test@example.com", null, "테스트사용자",
+                UserStatus.ACTIVE, 0, Arrays.asList("ROLE_USER"), null);
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        // 변경 전 JwtAuthenticationFilter 경로: validateToken + getUsernameFromToken
+        SecretKey validateKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Jwts.parserBuilder().setSigningKey(validateKey).build().parseClaimsJws(token);
+
+        SecretKey parseKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Claims claims = Jwts.parserBuilder().setSigningKey(parseKey).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public UserPrincipal verifyOnce() {
+        return tokenProvider.verify(token).map(VerifiedToken::toPrincipal).orElse(null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.lms.backend.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void submit_shouldRejectImmediately_WhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit("login", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = executor.submit("login", () -> "second");
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> executor.submit("login", () -> "third"));
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.queue.depth").gauge().value());
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("auth.password.hashing.duration").timer().count());
+        assertEquals(3, executor.getRetryAfterSeconds());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
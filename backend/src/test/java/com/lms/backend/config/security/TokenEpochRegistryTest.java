@@ -0,0 +1,60 @@
+package com.lms.backend.config.security;
+
+import com.lms.backend.infrastructure.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenEpochRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void isCurrent_shouldReuseCachedEpochWithinExpiry() {
+        // given
+        TokenEpochRegistry registry = new TokenEpochRegistry(userRepository, 100, 60);
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.of(0));
+
+        // when
+        assertTrue(registry.isCurrent(1L, 0));
+        assertTrue(registry.isCurrent(1L, 0));
+
+        // then
+        verify(userRepository, times(1)).findTokenEpochById(1L);
+    }
+
+    @Test
+    void isCurrent_shouldRejectTokenRevokedOnAnotherInstanceAfterExpiry() {
+        // given - 다른 인스턴스에서 정지되어 epoch가 증가함 (이 인스턴스에는 이벤트가 오지 않음)
+        TokenEpochRegistry registry = new TokenEpochRegistry(userRepository, 100, 0);
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(registry.isCurrent(1L, 0));
+
+        // when
+        boolean current = registry.isCurrent(1L, 0);
+
+        // then
+        assertFalse(current);
+    }
+
+    @Test
+    void isCurrent_shouldRejectDeletedUser() {
+        // given
+        TokenEpochRegistry registry = new TokenEpochRegistry(userRepository, 100, 60);
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.empty());
+
+        // when
+        boolean current = registry.isCurrent(1L, 0);
+
+        // then
+        assertFalse(current);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.lms.backend.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import io.jsonwebtoken.impl.DefaultClaims;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenCache = new VerifiedTokenCache(tokenProvider, meterRegistry, true, 1024 * 1024);
+    }
+
+    @Test
+    void verify_shouldVerifySignatureOncePerToken() {
+        // given
+        VerifiedToken verified = verifiedToken(new Date(System.currentTimeMillis() + 60000));
+        when(tokenProvider.verify("token")).thenReturn(Optional.of(verified));
+
+        // when
+        tokenCache.verify("token");
+        Optional<VerifiedToken> result = tokenCache.verify("token");
+
+        // then
+        assertSame(verified, result.orElse(null));
+        verify(tokenProvider, times(1)).verify("token");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void verify_shouldNotCacheExpiredToken() {
+        // given
+        VerifiedToken verified = verifiedToken(new Date(System.currentTimeMillis() - 1000));
+        when(tokenProvider.verify("token")).thenReturn(Optional.of(verified));
+
+        // when
+        tokenCache.verify("token");
+        tokenCache.verify("token");
+
+        // then
+        verify(tokenProvider, times(2)).verify("token");
+    }
+
+    @Test
+    void invalidateAll_shouldForceReverification() {
+        // given
+        VerifiedToken verified = verifiedToken(new Date(System.currentTimeMillis() + 60000));
+        when(tokenProvider.verify("token")).thenReturn(Optional.of(verified));
+        tokenCache.verify("token");
+
+        // when
+        tokenCache.invalidateAll();
+        tokenCache.verify("token");
+
+        // then
+        verify(tokenProvider, times(2)).verify("token");
+    }
+
+    private VerifiedToken verifiedToken(Date expiration) {
+        DefaultClaims claims = new DefaultClaims();
+        claims.setSubject("test@example.com");
+        claims.setExpiration(expiration);
+        return new VerifiedToken(claims);
+    }
+}
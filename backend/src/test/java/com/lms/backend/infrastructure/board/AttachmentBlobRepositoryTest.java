@@ -0,0 +1,60 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.AttachmentBlob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class AttachmentBlobRepositoryTest {
+
+    private static final String HASH = "94408cdc0c1c2f1b3a6e4f0d1b7a2e9c5d3f8a6b0e1c4d7f2a9b8c6e5d4f3a21";
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void references_shouldCountUpAndDown() {
+        // given - 처음 올라온 내용은 참조 추가 대상이 없어 참조 없는 행을 먼저 생성
+        assertEquals(0, blobRepository.incrementReferences(HASH));
+        blobRepository.insertUnreferenced(HASH, 1024, LocalDateTime.now());
+        assertEquals(1, blobRepository.incrementReferences(HASH));
+
+        // when - 같은 내용이 한 번 더 첨부됨
+        assertEquals(1, blobRepository.incrementReferences(HASH));
+        entityManager.clear();
+
+        // then
+        AttachmentBlob blob = blobRepository.findById(HASH).get();
+        assertEquals(2, blob.getRefCount());
+        assertEquals(1024, blob.getSize());
+        assertFalse(blobRepository.findUnreferencedForUpdate(HASH).isPresent());
+    }
+
+    @Test
+    void findUnreferencedForUpdate_shouldReturnOnlyAfterLastRelease() {
+        // given
+        blobRepository.insertUnreferenced(HASH, 10, LocalDateTime.now());
+        blobRepository.incrementReferences(HASH);
+        blobRepository.incrementReferences(HASH);
+
+        // when
+        blobRepository.decrementReferences(HASH);
+        boolean referencedAfterFirst = !blobRepository.findUnreferencedForUpdate(HASH).isPresent();
+        blobRepository.decrementReferences(HASH);
+        entityManager.clear();
+
+        // then - 0 아래로는 내려가지 않음
+        assertTrue(referencedAfterFirst);
+        assertTrue(blobRepository.findUnreferencedForUpdate(HASH).isPresent());
+        assertEquals(0, blobRepository.decrementReferences(HASH));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardStats;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.Comment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class BoardStatsRepositoryTest {
+
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        author = User.createIndividualUser("stats@example.com", "password", "통계", "01012345678", UserType.JOB_SEEKER);
+        entityManager.persist(author);
+        for (BoardType boardType : BoardType.values()) {
+            entityManager.persist(new BoardStats(boardType));
+        }
+        entityManager.flush();
+        today = LocalDate.now();
+    }
+
+    @Test
+    void incrementalUpdates_shouldMatchReconciledCounts() {
+        // given - 게시글 3개(비밀글 1개) 중 1개에 첫 댓글, 1개 삭제
+        Post open = persistQnA("공개 질문", false);
+        persistQnA("비밀 질문", true);
+        Post removed = persistQnA("삭제할 질문", false);
+        
+        entityManager.persist(new Comment("답변", open, author));
+        postRepository.adjustCommentCount(open.getId(), 1);
+        boardStatsRepository.markAnswered(open.getId());
+        
+        boardStatsRepository.decrementPosts("QNA", 0, 1, today);
+        entityManager.remove(removed);
+        entityManager.flush();
+
+        // when
+        BoardStats incremental = reload();
+        boardStatsRepository.reconcileAll(today, today.atStartOfDay(), LocalDateTime.now());
+        BoardStats reconciled = reload();
+
+        // then
+        assertEquals(2, incremental.getTotalPosts());
+        assertEquals(1, incremental.getSecretPosts());
+        assertEquals(1, incremental.getUnansweredPosts());
+        assertEquals(2, incremental.getPostsOn(today));
+        
+        assertEquals(incremental.getTotalPosts(), reconciled.getTotalPosts());
+        assertEquals(incremental.getSecretPosts(), reconciled.getSecretPosts());
+        assertEquals(incremental.getUnansweredPosts(), reconciled.getUnansweredPosts());
+        assertEquals(incremental.getPostsOn(today), reconciled.getPostsOn(today));
+        assertNotNull(reconciled.getReconciledAt());
+    }
+
+    @Test
+    void markAnswered_shouldOnlyCountFirstComment() {
+        // given
+        Post post = persistQnA("질문", false);
+        postRepository.adjustCommentCount(post.getId(), 1);
+        boardStatsRepository.markAnswered(post.getId());
+        postRepository.adjustCommentCount(post.getId(), 1);
+
+        // when - 두 번째 댓글
+        int updated = boardStatsRepository.markAnswered(post.getId());
+
+        // then
+        assertEquals(0, updated);
+        assertEquals(0, reload().getUnansweredPosts());
+    }
+
+    @Test
+    void incrementPosts_shouldRestartDailyCountOnNewDay() {
+        // given - 어제 날짜로 집계된 상태
+        boardStatsRepository.incrementPosts("QNA", 0, today.minusDays(1));
+
+        // when
+        boardStatsRepository.incrementPosts("QNA", 0, today);
+
+        // then
+        BoardStats stats = reload();
+        assertEquals(2, stats.getTotalPosts());
+        assertEquals(1, stats.getPostsOn(today));
+    }
+
+    private Post persistQnA(String title, boolean secret) {
+        Post post = Post.createQnA(title, "내용", author, secret);
+        entityManager.persist(post);
+        entityManager.flush();
+        boardStatsRepository.incrementPosts("QNA", secret ? 1 : 0, today);
+        return post;
+    }
+
+    private BoardStats reload() {
+        entityManager.clear();
+        return boardStatsRepository.findById(BoardType.QNA).orElseThrow(IllegalStateException::new);
+    }
+}
\ No newline at end of file
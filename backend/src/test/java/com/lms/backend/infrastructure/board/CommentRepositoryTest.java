@@ -0,0 +1,94 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.Comment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.createIndividualUser("author@example.com", "password", "작성자",
+                "01012345678", UserType.JOB_SEEKER);
+        entityManager.persist(author);
+        post = Post.createQnA("제목", "내용", author, false);
+        entityManager.persist(post);
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(new Comment("댓글 " + i, post, author));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findSliceByPostIdAfter_shouldPageWithAuthorJoin() {
+        // when
+        List<Long> seen = new ArrayList<>();
+        Slice<CommentSummary> slice = commentRepository.findSliceByPostId(post.getId(), PageRequest.of(0, 3));
+        seen.addAll(slice.map(CommentSummary::getId).getContent());
+        int pages = 1;
+        while (slice.hasNext()) {
+            CommentSummary last = slice.getContent().get(slice.getContent().size() - 1);
+            slice = commentRepository.findSliceByPostIdAfter(post.getId(), last.getCreatedAt(), last.getId(),
+                    PageRequest.of(0, 3));
+            seen.addAll(slice.map(CommentSummary::getId).getContent());
+            pages++;
+        }
+
+        // then - 작성자 지연 로딩 없이 페이지당 1개 쿼리
+        assertEquals(3, pages);
+        assertEquals(7, new HashSet<>(seen).size());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals("작성자", slice.getContent().get(0).getAuthorName());
+    }
+
+    @Test
+    void streamByPostId_shouldReturnCommentsInCursorOrder() {
+        // given
+        List<Long> paged = commentRepository.findSliceByPostId(post.getId(), PageRequest.of(0, 7))
+                .map(CommentSummary::getId).getContent();
+
+        // when
+        List<Long> streamed;
+        try (Stream<CommentSummary> all = commentRepository.streamByPostId(post.getId())) {
+            streamed = all.map(CommentSummary::getId).collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(paged, streamed);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.FileAttachment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(FileAttachmentBatchWriter.class)
+class FileAttachmentBatchWriterTest {
+
+    @Autowired
+    private FileAttachmentBatchWriter batchWriter;
+
+    @Autowired
+    private FileAttachmentRepository fileAttachmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void insertAll_shouldAssignGeneratedIdsInOrder() {
+        // given - 이미지 20장을 첨부하는 게시글
+        User author = User.createIndividualUser("writer@example.com", "password", "작성자",
+                "01012345678", UserType.JOB_SEEKER);
+        entityManager.persist(author);
+        Post post = Post.createQnA("사진 모음", "내용", author, false);
+        entityManager.persist(post);
+        entityManager.flush();
+
+        List<FileAttachment> attachments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            FileAttachment attachment = new FileAttachment("photo" + i + ".png", "hash" + i,
+                    "uploads/ha/sh/hash" + i, 100L + i, "image/png");
+            attachment.setChecksum("hash" + i);
+            attachments.add(attachment);
+        }
+
+        // when
+        batchWriter.insertAll(post.getId(), attachments);
+        entityManager.clear();
+
+        // then
+        for (FileAttachment attachment : attachments) {
+            assertNotNull(attachment.getId());
+            assertNotNull(attachment.getCreatedAt());
+            FileAttachment saved = fileAttachmentRepository.findById(attachment.getId()).get();
+            assertEquals(attachment.getOriginalFileName(), saved.getOriginalFileName());
+            assertEquals(attachment.getFileSize(), saved.getFileSize());
+            assertEquals(post.getId(), saved.getPost().getId());
+        }
+        assertEquals(20, entityManager.find(Post.class, post.getId()).getAttachments().size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.application.board.ViewerFingerprint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_shouldStayWithinErrorBound() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        int viewers = 100000;
+
+        // when - 같은 조회자가 여러 번 조회해도 한 번만 집계
+        for (int round = 0; round < 3; round++) {
+            for (long userId = 1; userId <= viewers; userId++) {
+                sketch.offer(ViewerFingerprint.of(null, "10.0." + userId, "agent"));
+            }
+        }
+
+        // then
+        assertEquals(viewers, sketch.estimate(), viewers * 0.05);
+    }
+
+    @Test
+    void estimate_shouldBeExactForSmallCounts() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sketch.offer(ViewerFingerprint.of(null, "127.0.0." + i, "agent"));
+        }
+
+        // then
+        assertEquals(10, sketch.estimate());
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void toBytes_shouldRoundTripAndMerge() {
+        // given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            first.offer(ViewerFingerprint.of(null, "a" + i, "agent"));
+            second.offer(ViewerFingerprint.of(null, "b" + i, "agent"));
+        }
+
+        // when
+        HyperLogLog restored = HyperLogLog.fromBytes(first.toBytes());
+        restored.merge(second);
+
+        // then
+        assertEquals(HyperLogLog.REGISTER_COUNT, first.toBytes().length);
+        assertEquals(first.estimate(), HyperLogLog.fromBytes(first.toBytes()).estimate());
+        assertEquals(2000, restored.estimate(), 2000 * 0.05);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.application.common.KeysetCursor;
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.domain.board.Comment;
+import com.lms.backend.domain.board.Post;
+import com.lms.backend.domain.user.User;
+import com.lms.backend.domain.user.UserType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User author = null;
+        for (int u = 0; u < 3; u++) {
+            author = User.createIndividualUser("user" + u + "@example.com", "password", "사용자" + u,
+                    "0101234567" + u, UserType.JOB_SEEKER);
+            entityManager.persist(author);
+            for (int p = 0; p < 5; p++) {
+                Post post = Post.createQnA("제목 " + u + "-" + p, "내용 " + p, author, p % 2 == 0);
+                entityManager.persist(post);
+                entityManager.persist(new Comment("댓글", post, author));
+                entityManager.persist(new Comment("댓글", post, author));
+            }
+        }
+        entityManager.persist(Post.createNotice("공지", "공지 내용", author));
+        entityManager.flush();
+        postRepository.recountCommentCounts();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findSummariesByBoardType_shouldUseSingleStatementPerPage() {
+        // when - 마지막 페이지처럼 결과가 페이지 크기보다 작으면 COUNT 쿼리도 생략됨
+        Page<PostSummary> page = postRepository.findSummariesByBoardType(BoardType.QNA, PageRequest.of(0, 20));
+
+        // then
+        assertEquals(15, page.getContent().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+
+        PostSummary first = page.getContent().get(0);
+        assertNotNull(first.getAuthorName());
+        assertEquals(2, first.getCommentCount());
+    }
+
+    @Test
+    void findSummariesByBoardType_shouldNotDependOnPageSize() {
+        // when - 전체 건수를 위한 COUNT 쿼리 1회만 추가
+        Page<PostSummary> page = postRepository.findSummariesByBoardType(BoardType.QNA, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(10, page.getContent().size());
+        assertEquals(15, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findNoticeSummariesByBoardType_shouldUseSingleStatement() {
+        // when
+        List<PostSummary> notices = postRepository.findNoticeSummariesByBoardType(BoardType.NOTICE);
+
+        // then
+        assertEquals(1, notices.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSummariesForViewer_shouldComputeVisibilityInQuery() {
+        // given - 사용자0의 비밀글 3건, 다른 사용자의 비밀글 6건
+        Long viewerId = postRepository.findAll().stream()
+                .filter(post -> post.getAuthor().getName().equals("사용자0"))
+                .findFirst().get().getAuthor().getId();
+        statistics.clear();
+
+        // when
+        Page<PostSummary> all = postRepository.findSummariesForViewer(
+                BoardType.QNA, viewerId, false, false, PageRequest.of(0, 20));
+        Page<PostSummary> readable = postRepository.findSummariesForViewer(
+                BoardType.QNA, viewerId, false, true, PageRequest.of(0, 20));
+        Page<PostSummary> anonymous = postRepository.findSummariesForViewer(
+                BoardType.QNA, -1L, false, true, PageRequest.of(0, 20));
+        Page<PostSummary> admin = postRepository.findSummariesForViewer(
+                BoardType.QNA, -1L, true, true, PageRequest.of(0, 20));
+
+        // then
+        assertEquals(15, all.getContent().size());
+        assertEquals(6, all.getContent().stream().filter(post -> !post.getVisible()).count());
+        assertEquals(9, readable.getContent().size());
+        assertTrue(readable.getContent().stream().allMatch(PostSummary::getVisible));
+        assertEquals(6, anonymous.getContent().size());
+        assertEquals(15, admin.getContent().size());
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findSliceForViewerAfter_shouldWalkAllPostsWithoutCount() {
+        // given
+        List<Long> seen = new ArrayList<>();
+        Slice<PostSummary> slice = postRepository.findSliceForViewer(
+                BoardType.QNA, -1L, true, false, PageRequest.of(0, 4));
+        seen.addAll(slice.map(PostSummary::getId).getContent());
+
+        // when - 다음 커서로 끝까지 조회
+        int pages = 1;
+        while (slice.hasNext()) {
+            PostSummary last = slice.getContent().get(slice.getContent().size() - 1);
+            KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+            slice = postRepository.findSliceForViewerAfter(BoardType.QNA, -1L, true, false,
+                    cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, 4));
+            seen.addAll(slice.map(PostSummary::getId).getContent());
+            pages++;
+        }
+
+        // then - 페이지당 1개 쿼리, 중복/누락 없음
+        assertEquals(4, pages);
+        assertEquals(15, seen.size());
+        assertEquals(15, new HashSet<>(seen).size());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_shouldLoadContentLazilyAndDecompressLongContent() {
+        // given - 압축 기준을 넘는 본문
+        String longContent = String.join("\n", Collections.nCopies(400, "ERROR 로그 한 줄"));
+        Post post = postRepository.findAll().get(0);
+        post.updateContent("긴 본문", longContent);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Post loaded = postRepository.findById(post.getId()).get();
+
+        // then - 게시글만 로딩, 본문은 접근 시 1회 로딩 후 해제
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(longContent, loaded.getContent());
+        assertEquals(2, statistics.getEntityLoadCount());
+        assertEquals(longContent, postRepository.findSearchDocumentById(post.getId()).get().getContent());
+    }
+
+    @Test
+    void findValidatorById_shouldNotLoadEntities() {
+        // given
+        Post secret = postRepository.findAll().stream()
+                .filter(Post::getIsSecret)
+                .findFirst().get();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        PostValidator validator = postRepository.findValidatorById(secret.getId()).get();
+
+        // then - 스칼라 조회 한 번, 엔티티 로딩 없음
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(BoardType.QNA, validator.getBoardType());
+        assertNotNull(validator.getUpdatedAt());
+        assertTrue(validator.canView(secret.getAuthor().getId(), false));
+        assertTrue(validator.canView(-1L, true));
+        assertFalse(validator.canView(-1L, false));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.lms.backend.infrastructure.board;
+
+import com.lms.backend.domain.board.BoardType;
+import com.lms.backend.infrastructure.search.SearchHits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path root;
+
+    private PostSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new PostSearchIndex(root.toString());
+        searchIndex.indexAll(Arrays.asList(
+                new PostSearchDocument(1L, BoardType.QNA, false, 10L, "데이터베이스 질문", "인덱스 설계가 궁금합니다"),
+                new PostSearchDocument(2L, BoardType.QNA, false, 11L, "수강 문의", "데이터 분석 과정 일정이 궁금합니다"),
+                new PostSearchDocument(3L, BoardType.QNA, true, 12L, "데이터 과제 질문", "비밀 내용"),
+                new PostSearchDocument(4L, BoardType.NOTICE, false, 1L, "데이터 과정 개강 안내", "공지 내용"),
+                new PostSearchDocument(5L, BoardType.QNA, false, 10L, "Spring Boot 질문", "JPA 설정 문의")));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void search_shouldMatchKoreanSubstringsInTitleAndContent() {
+        // when - "데이터베이스"(제목), "데이터 분석"(본문) 모두 일치
+        SearchHits hits = searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10);
+
+        // then
+        assertEquals(3, hits.getTotalHits());
+        assertTrue(hits.getIds().containsAll(Arrays.asList(1L, 2L, 3L)));
+        assertEquals(0, searchIndex.search(BoardType.QNA, "머신러닝", -1L, false, false, 0, 10).getTotalHits());
+    }
+
+    @Test
+    void search_shouldFilterByBoardTypeAndReadability() {
+        // when
+        SearchHits notices = searchIndex.search(BoardType.NOTICE, "데이터", -1L, false, false, 0, 10);
+        SearchHits readable = searchIndex.search(BoardType.QNA, "데이터", 11L, false, true, 0, 10);
+        SearchHits ownSecret = searchIndex.search(BoardType.QNA, "데이터", 12L, false, true, 0, 10);
+        SearchHits admin = searchIndex.search(BoardType.QNA, "데이터", -1L, true, true, 0, 10);
+
+        // then
+        assertEquals(Arrays.asList(4L), notices.getIds());
+        assertFalse(readable.getIds().contains(3L));
+        assertTrue(ownSecret.getIds().contains(3L));
+        assertEquals(3, admin.getTotalHits());
+    }
+
+    @Test
+    void search_shouldBeCaseInsensitiveAndPaged() {
+        // when
+        SearchHits hits = searchIndex.search(BoardType.QNA, "spring", -1L, false, false, 0, 10);
+        SearchHits secondPage = searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 2, 2);
+
+        // then
+        assertEquals(Arrays.asList(5L), hits.getIds());
+        assertEquals(1, secondPage.getIds().size());
+        assertEquals(3, secondPage.getTotalHits());
+    }
+
+    @Test
+    void search_shouldMatchSingleCharacterInsideWords() {
+        // when - bigram이 없는 한 글자 검색어도 단어 중간 글자와 일치
+        SearchHits hangul = searchIndex.search(BoardType.QNA, "베", -1L, false, false, 0, 10);
+        SearchHits latin = searchIndex.search(BoardType.QNA, "P", -1L, false, false, 0, 10);
+
+        // then
+        assertEquals(Arrays.asList(1L), hangul.getIds());
+        assertEquals(Arrays.asList(5L), latin.getIds());
+        assertEquals(0, searchIndex.search(BoardType.QNA, "!", -1L, false, false, 0, 10).getTotalHits());
+    }
+
+    @Test
+    void indexAndDelete_shouldBeVisibleImmediately() {
+        // when
+        searchIndex.index(new PostSearchDocument(1L, BoardType.QNA, false, 10L, "머신러닝 질문", "수정된 내용"));
+        searchIndex.delete(2L);
+
+        // then
+        assertEquals(Arrays.asList(3L), searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10).getIds());
+        assertEquals(Arrays.asList(1L), searchIndex.search(BoardType.QNA, "머신러닝", -1L, false, false, 0, 10).getIds());
+    }
+
+    @Test
+    void rebuild_shouldKeepServingOldDocumentsUntilFinishedAndDropMissingOnes() {
+        // given
+        long generation = searchIndex.beginRebuild();
+
+        // when - 재색인 중간에는 아직 다시 색인되지 않은 문서도 검색됨
+        searchIndex.indexAll(Arrays.asList(
+                new PostSearchDocument(1L, BoardType.QNA, false, 10L, "데이터베이스 질문", "인덱스 설계가 궁금합니다"),
+                new PostSearchDocument(3L, BoardType.QNA, true, 12L, "데이터 과제 질문", "비밀 내용")));
+        SearchHits duringRebuild = searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10);
+        searchIndex.index(new PostSearchDocument(6L, BoardType.QNA, false, 13L, "데이터 시각화 질문", "새 글"));
+        searchIndex.finishRebuild(generation);
+
+        // then - 재색인에서 빠진 2번은 삭제, 재색인 중 색인된 6번은 유지
+        assertEquals(3, duringRebuild.getTotalHits());
+        SearchHits afterRebuild = searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10);
+        assertEquals(3, afterRebuild.getTotalHits());
+        assertTrue(afterRebuild.getIds().containsAll(Arrays.asList(1L, 3L, 6L)));
+    }
+
+    @Test
+    void commit_shouldKeepDocumentsAndRebuildGenerationAcrossRestarts() throws IOException {
+        // given - 재색인 후 커밋하고 재기동
+        assertNull(searchIndex.getSyncedAt());
+        long generation = searchIndex.beginRebuild();
+        searchIndex.indexAll(Collections.singletonList(
+                new PostSearchDocument(1L, BoardType.QNA, false, 10L, "데이터베이스 질문", "인덱스 설계가 궁금합니다")));
+        searchIndex.finishRebuild(generation);
+        Instant syncedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        searchIndex.commit(syncedAt);
+        searchIndex.close();
+
+        // when
+        searchIndex = new PostSearchIndex(root.toString());
+        SearchHits reopened = searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10);
+        long nextGeneration = searchIndex.beginRebuild();
+        searchIndex.indexAll(Collections.singletonList(
+                new PostSearchDocument(5L, BoardType.QNA, false, 10L, "Spring Boot 질문", "JPA 설정 문의")));
+        searchIndex.finishRebuild(nextGeneration);
+
+        // then - 다시 색인하지 않아도 검색되고, 다음 재색인에서 빠진 문서는 이전 세대로 판단되어 삭제됨
+        assertEquals(syncedAt, searchIndex.getSyncedAt());
+        assertEquals(Collections.singletonList(1L), reopened.getIds());
+        assertEquals(generation + 1, nextGeneration);
+        assertEquals(0, searchIndex.search(BoardType.QNA, "데이터", -1L, false, false, 0, 10).getTotalHits());
+    }
+}
\ No newline at end of file
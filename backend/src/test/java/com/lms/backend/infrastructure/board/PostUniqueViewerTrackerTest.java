@@ -0,0 +1,65 @@
+package com.lms.backend.infrastructure.board;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PostUniqueViewerTrackerTest {
+
+    @Autowired
+    private PostViewerSketchRepository sketchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void flush_shouldMergeWithRegistersStoredByOtherInstances() {
+        // given - 두 인스턴스가 같은 게시글의 서로 다른 조회자 1000명씩 기록
+        PostUniqueViewerTracker first = newTracker(100);
+        PostUniqueViewerTracker second = newTracker(100);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            first.recordView(1L, random.nextLong());
+            second.recordView(1L, random.nextLong());
+        }
+
+        // when
+        first.flush();
+        second.flush();
+
+        // then - 나중에 저장한 인스턴스가 앞선 기록을 덮어쓰지 않음
+        long estimate = newTracker(100).estimate(1L);
+        assertTrue(Math.abs(estimate - 2000) < 2000 * 0.1, "estimate=" + estimate);
+        assertTrue(second.estimate(1L) > 1800);
+    }
+
+    @Test
+    void recordView_shouldKeepUnsavedChanges_WhenSketchIsEvicted() {
+        // given - 스케치 1개만 유지
+        PostUniqueViewerTracker tracker = newTracker(1);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 500; i++) {
+            tracker.recordView(1L, random.nextLong());
+        }
+
+        // when - 다른 게시글 조회로 밀려난 뒤 저장
+        for (long postId = 2; postId < 50; postId++) {
+            tracker.estimate(postId);
+        }
+        tracker.flush();
+
+        // then
+        long estimate = newTracker(1).estimate(1L);
+        assertTrue(Math.abs(estimate - 500) < 500 * 0.1, "estimate=" + estimate);
+    }
+
+    private PostUniqueViewerTracker newTracker(long maxSketches) {
+        return new PostUniqueViewerTracker(sketchRepository, transactionTemplate, maxSketches, 600);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.lms.backend.infrastructure.board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new PostViewCountBuffer(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteAccumulatedViewsInOneBatch() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+        assertEquals(3L, viewCountBuffer.getPending(1L));
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(0L, viewCountBuffer.getPending(1L));
+    }
+
+    @Test
+    void flush_shouldKeepViews_WhenUpdateFails() {
+        // given
+        viewCountBuffer.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        // when
+        assertThrows(RuntimeException.class, () -> viewCountBuffer.flush());
+
+        // then
+        assertEquals(1L, viewCountBuffer.getPending(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldNotLoseViews_WhenIncrementedConcurrently() throws Exception {
+        // given - 조회가 들어오는 동안 반복해서 반영
+        AtomicLong written = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            for (Object[] row : (List<Object[]>) invocation.getArgument(1)) {
+                written.addAndGet((Long) row[0]);
+            }
+            return new int[0];
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    viewCountBuffer.increment(1L);
+                }
+                done.countDown();
+            });
+        }
+
+        // when
+        while (done.getCount() > 0) {
+            viewCountBuffer.flush();
+        }
+        viewCountBuffer.flush();
+        executor.shutdown();
+
+        // then
+        assertEquals(200_000L, written.get());
+        assertEquals(0L, viewCountBuffer.getPending(1L));
+    }
+
+    @Test
+    void flush_shouldSkipDatabase_WhenNothingPending() {
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
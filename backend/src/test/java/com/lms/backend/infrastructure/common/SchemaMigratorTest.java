@@ -0,0 +1,66 @@
+package com.lms.backend.infrastructure.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    private static final String LOCATIONS = "classpath:db/migration-test/*.sql";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // PostgreSQL advisory lock 대신 아무 일도 하지 않는 함수
+        jdbcTemplate.execute("CREATE ALIAS pg_advisory_xact_lock FOR 'java.lang.Long.signum'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void migrate_shouldApplyPendingScriptsInVersionOrderOnce() throws IOException {
+        // given
+        SchemaMigrator migrator = new SchemaMigrator(dataSource, LOCATIONS);
+
+        // when - 두 번 기동
+        assertEquals(Arrays.asList(1, 2), migrator.migrate());
+        assertEquals(Collections.emptyList(), migrator.migrate());
+
+        // then
+        assertEquals("untitled", jdbcTemplate.queryForObject("SELECT title FROM notes WHERE id = 1", String.class));
+        assertEquals(Arrays.asList("create notes", "add note title"), jdbcTemplate.queryForList(
+                "SELECT description FROM schema_migrations ORDER BY version", String.class));
+    }
+
+    @Test
+    void migrate_shouldSkipScriptsAlreadyRecorded() throws IOException {
+        // given - 1번까지 적용된 DB
+        jdbcTemplate.execute("CREATE TABLE schema_migrations (version INT PRIMARY KEY, " +
+                "description VARCHAR(200) NOT NULL, installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE notes (id BIGINT PRIMARY KEY, body VARCHAR(255) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO schema_migrations (version, description) VALUES (1, 'create notes')");
+
+        // when
+        assertEquals(Collections.singletonList(2), new SchemaMigrator(dataSource, LOCATIONS).migrate());
+
+        // then
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notes", Integer.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.lms.backend.infrastructure.course;
+
+import com.lms.backend.domain.course.Course;
+import com.lms.backend.domain.course.CourseStatus;
+import com.lms.backend.infrastructure.search.SearchHits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSearchIndexTest {
+
+    private CourseSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CourseSearchIndex();
+        searchIndex.indexAll(Arrays.asList(
+                course(1L, "자바 백엔드 개발", "스프링 부트로 API 서버를 만듭니다", "김강사", "개발", CourseStatus.ACTIVE),
+                course(2L, "데이터 분석 입문", "파이썬과 자바 기초 문법을 함께 다룹니다", "이강사", "데이터", CourseStatus.ACTIVE),
+                course(3L, "자바 심화", "동시성 프로그래밍", "박강사", "개발", CourseStatus.INACTIVE),
+                course(4L, "웹 디자인", "피그마 실습", "자바강사", "디자인", CourseStatus.ACTIVE)));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void search_shouldMatchTitleDescriptionAndInstructor() {
+        // when
+        SearchHits hits = searchIndex.search("자바", null, null, 0, 10);
+
+        // then - 제목 일치가 설명 일치보다 앞에 위치
+        assertEquals(4, hits.getTotalHits());
+        assertTrue(hits.getIds().indexOf(1L) < hits.getIds().indexOf(2L));
+        assertEquals(0, searchIndex.search("머신러닝", null, null, 0, 10).getTotalHits());
+    }
+
+    @Test
+    void search_shouldFilterByCategoryAndStatus() {
+        // when
+        SearchHits development = searchIndex.search("자바", "개발", null, 0, 10);
+        SearchHits activeDevelopment = searchIndex.search("자바", "개발", CourseStatus.ACTIVE, 0, 10);
+
+        // then
+        assertEquals(2, development.getTotalHits());
+        assertEquals(Arrays.asList(1L), activeDevelopment.getIds());
+    }
+
+    @Test
+    void search_shouldMatchPartialLastWordAndSingleCharacter() {
+        // when - 입력 중인 영문 부분 단어, 한 글자, 마지막 단어가 덜 입력된 검색어
+        SearchHits partialEnglish = searchIndex.search("ap", null, null, 0, 10);
+        SearchHits singleCharacter = searchIndex.search("웹", null, null, 0, 10);
+        SearchHits partialLastWord = searchIndex.search("자바 백", null, null, 0, 10);
+
+        // then
+        assertEquals(Arrays.asList(1L), partialEnglish.getIds());
+        assertEquals(Arrays.asList(4L), singleCharacter.getIds());
+        assertEquals(Arrays.asList(1L), partialLastWord.getIds());
+        assertEquals(0, searchIndex.search("apx", null, null, 0, 10).getTotalHits());
+    }
+
+    @Test
+    void indexAndDelete_shouldReflectChanges() {
+        // when
+        searchIndex.index(course(3L, "코틀린 심화", "동시성 프로그래밍", "박강사", "개발", CourseStatus.ACTIVE));
+        searchIndex.delete(1L);
+        searchIndex.refresh();
+
+        // then
+        assertEquals(Arrays.asList(3L), searchIndex.search("코틀린", null, null, 0, 10).getIds());
+        assertFalse(searchIndex.search("자바", null, null, 0, 10).getIds().contains(1L));
+    }
+
+    private Course course(Long id, String title, String description, String instructor, String category, CourseStatus status) {
+        Course course = new Course(title, description, instructor, category, 30, null, null, "8주", 0L, status, null);
+        course.setId(id);
+        return course;
+    }
+}
\ No newline at end of file
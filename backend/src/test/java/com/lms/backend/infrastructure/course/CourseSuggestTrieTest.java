@@ -0,0 +1,87 @@
+package com.lms.backend.infrastructure.course;
+
+import com.lms.backend.domain.course.Course;
+import com.lms.backend.domain.course.CourseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSuggestTrieTest {
+
+    private CourseSuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new CourseSuggestTrie();
+        trie.index(course(1L, "데이터 분석 입문", "이강사", 5));
+        trie.index(course(2L, "데이터베이스 설계", "김강사", 20));
+        trie.index(course(3L, "자바 백엔드 개발", "김강사", 12));
+        trie.index(course(4L, "Spring Boot 실전", "박강사", 3));
+    }
+
+    @Test
+    void suggest_shouldMatchPartialHangulSyllable() {
+        // when - "터"를 입력하는 중 ("ㅌ"까지만 입력된 상태)
+        List<String> texts = textsOf(trie.suggest("데이ㅌ", 10));
+
+        // then - 수강 인원 순
+        assertEquals(Arrays.asList("데이터베이스 설계", "데이터 분석 입문"), texts);
+        assertEquals(Arrays.asList("데이터베이스 설계"), textsOf(trie.suggest("데이텁", 10)));
+    }
+
+    @Test
+    void suggest_shouldMatchWordStartsInstructorsAndIgnoreCase() {
+        // when & then
+        assertEquals(Arrays.asList("데이터 분석 입문"), textsOf(trie.suggest("분석", 10)));
+        assertEquals(Arrays.asList("Spring Boot 실전"), textsOf(trie.suggest("boot", 10)));
+
+        List<CourseSuggestion> instructors = trie.suggest("김강", 10);
+        assertEquals(1, instructors.size());
+        assertEquals(CourseSuggestion.Type.INSTRUCTOR, instructors.get(0).getType());
+        assertEquals(32, instructors.get(0).getEnrollment());
+        assertTrue(trie.suggest("머신", 10).isEmpty());
+    }
+
+    @Test
+    void indexAndRemove_shouldUpdateRanksIncrementally() {
+        // when
+        trie.index(course(1L, "데이터 분석 입문", "이강사", 50));
+        trie.remove(2L);
+
+        // then
+        assertEquals(Arrays.asList("데이터 분석 입문"), textsOf(trie.suggest("데이", 10)));
+        assertEquals(12, trie.suggest("김강사", 10).get(0).getEnrollment());
+
+        trie.remove(3L);
+        assertTrue(trie.suggest("김", 10).isEmpty());
+        assertEquals(1, trie.suggest("데이터", 1).size());
+    }
+
+    private List<String> textsOf(List<CourseSuggestion> suggestions) {
+        return suggestions.stream().map(CourseSuggestion::getText).collect(Collectors.toList());
+    }
+
+    @Test
+    void retainOnly_shouldRemoveCoursesMissingFromRebuild() {
+        // when
+        trie.retainOnly(new HashSet<>(Arrays.asList(1L, 3L)));
+
+        // then
+        assertEquals(Arrays.asList("데이터 분석 입문"), textsOf(trie.suggest("데이", 10)));
+        assertEquals(12, trie.suggest("김강사", 10).get(0).getEnrollment());
+        assertTrue(trie.suggest("spring", 10).isEmpty());
+    }
+
+    private Course course(Long id, String title, String instructor, int enrollment) {
+        Course course = new Course(title, null, instructor, "개발", 100, null, null, "8주", 0L, CourseStatus.ACTIVE, null);
+        course.setId(id);
+        course.setCurrentEnrollment(enrollment);
+        return course;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.lms.backend.infrastructure.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void stageAndCommit_shouldMoveToContentAddressedPath() throws Exception {
+        // given
+        AttachmentStorage storage = new AttachmentStorage(root.toString());
+        byte[] content = "강의 계획서".getBytes(StandardCharsets.UTF_8);
+        String hash = sha256Hex(content);
+
+        // when
+        StagedFile staged = storage.stage(new ByteArrayInputStream(content), 1024);
+        Path committed = storage.commit(staged);
+
+        // then
+        assertEquals(hash, staged.getChecksum());
+        assertEquals(content.length, staged.getSize());
+        assertEquals(root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash), committed);
+        assertEquals(committed, storage.blobPath(hash));
+        assertArrayEquals(content, Files.readAllBytes(committed));
+        assertFalse(Files.exists(staged.getPath()));
+        assertTrue(storage.exists(hash));
+    }
+
+    @Test
+    void discard_shouldKeepExistingBlob() throws Exception {
+        // given - 같은 내용을 두 번 업로드
+        AttachmentStorage storage = new AttachmentStorage(root.toString());
+        byte[] content = "중복 첨부".getBytes(StandardCharsets.UTF_8);
+        storage.commit(storage.stage(new ByteArrayInputStream(content), 1024));
+
+        // when
+        StagedFile duplicate = storage.stage(new ByteArrayInputStream(content), 1024);
+        storage.discard(duplicate);
+
+        // then - 원본 하나만 남음
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        storage.deleteBlob(duplicate.getChecksum());
+        assertFalse(storage.exists(duplicate.getChecksum()));
+    }
+
+    @Test
+    void stage_shouldStopAndDeleteWhenSizeLimitExceeded() throws IOException {
+        // given
+        AttachmentStorage storage = new AttachmentStorage(root.toString());
+
+        // when & then
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> storage.stage(new ByteArrayInputStream(new byte[300_000]), 200_000));
+        assertTrue(e.getMessage().contains("exceeds"));
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void sweepStaging_shouldDeleteOnlyStaleFiles() throws IOException {
+        // given - 오래된 이어 올리기 파일과 방금 만든 파일
+        AttachmentStorage storage = new AttachmentStorage(root.toString());
+        storage.allocate("stale", 1024);
+        storage.allocate("active", 1024);
+        Path stale = root.resolve("tmp").resolve("stale.part");
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // when
+        int deleted = storage.sweepStaging(Instant.now().minus(Duration.ofDays(1)));
+
+        // then
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(root.resolve("tmp").resolve("active.part")));
+    }
+
+    private static String sha256Hex(byte[] content) throws NoSuchAlgorithmException {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
\ No newline at end of file
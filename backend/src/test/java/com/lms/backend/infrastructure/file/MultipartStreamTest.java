@@ -0,0 +1,115 @@
+package com.lms.backend.infrastructure.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamTest {
+
+    private static final String BOUNDARY = "----formBoundary7MA4YWxk";
+
+    @Test
+    void next_shouldStreamPartsAcrossBufferBoundaries() throws IOException {
+        // given - 경계값과 비슷한 바이트를 포함한 바이너리 파일 (1바이트씩 도착)
+        byte[] file = new byte[200_000];
+        new Random(7).nextBytes(file);
+        byte[] lookalike = ("\r\n--" + BOUNDARY.substring(0, 10)).getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(lookalike, 0, file, 65_530, lookalike.length);
+        byte[] body = body(file);
+
+        // when
+        MultipartStream multipart = new MultipartStream(new OneByteInputStream(body),
+                MultipartStream.boundaryOf("multipart/form-data; boundary=" + BOUNDARY));
+        MultipartStream.Part title = multipart.next();
+        MultipartStream.Part upload = multipart.next();
+        byte[] uploaded = readAll(upload.getBody());
+
+        // then
+        assertEquals("title", title.getName());
+        assertNull(title.getFileName());
+        assertEquals("file", upload.getName());
+        assertEquals("강의자료.pdf", upload.getFileName());
+        assertEquals("application/pdf", upload.getContentType());
+        assertArrayEquals(file, uploaded);
+        assertNull(multipart.next());
+    }
+
+    @Test
+    void next_shouldSkipUnreadPartBody() throws IOException {
+        // given
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body("본문".getBytes(StandardCharsets.UTF_8))),
+                BOUNDARY);
+
+        // when - 첫 파트 본문을 읽지 않고 다음 파트로 이동
+        multipart.next();
+        MultipartStream.Part upload = multipart.next();
+
+        // then
+        assertEquals("본문", new String(readAll(upload.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void read_shouldFailOnTruncatedBody() throws IOException {
+        // given - 마지막 경계값 없이 끊긴 요청
+        byte[] body = body(new byte[1000]);
+        byte[] truncated = new byte[body.length - 60];
+        System.arraycopy(body, 0, truncated, 0, truncated.length);
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(truncated), BOUNDARY);
+
+        // when
+        multipart.next();
+        MultipartStream.Part upload = multipart.next();
+
+        // then
+        assertThrows(EOFException.class, () -> readAll(upload.getBody()));
+    }
+
+    @Test
+    void boundaryOf_shouldRejectNonMultipartRequest() {
+        assertThrows(IllegalArgumentException.class, () -> MultipartStream.boundaryOf("application/json"));
+        assertEquals("abc", MultipartStream.boundaryOf("multipart/form-data; boundary=\"abc\""));
+    }
+
+    private static byte[] body(byte[] file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "제목\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"강의자료.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static class OneByteInputStream extends FilterInputStream {
+
+        OneByteInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.lms.backend.presentation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeDownloadsTest {
+
+    private static final String ETAG = "\"abc123\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        file = Files.write(directory.resolve("lecture.pdf"), content);
+    }
+
+    @Test
+    void send_shouldReturnWholeFileWithValidators() throws IOException {
+        // when
+        MockHttpServletResponse response = send(request());
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(1000, response.getContentLength());
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void send_shouldReturnSingleRange() throws IOException {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=900-");
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 900-999/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(content, 900, 1000), response.getContentAsByteArray());
+    }
+
+    @Test
+    void send_shouldUseContainerSendfileWhenSupported() throws IOException {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then - 본문은 컨테이너가 전송
+        assertEquals(206, response.getStatus());
+        assertEquals(10, response.getContentLength());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(20L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void send_shouldReturnMultipartByteranges() throws IOException {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,-2");
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        String body = new String(response.getContentAsByteArray(), StandardCharsets.ISO_8859_1);
+        assertEquals(response.getContentLength(), response.getContentAsByteArray().length);
+        assertTrue(body.contains("Content-Range: bytes 0-1/1000\r\n\r\n\u0000\u0001\r\n"));
+        assertTrue(body.contains("Content-Range: bytes 998-999/1000\r\n\r\n" + (char) (998 & 0xff) + (char) (999 & 0xff)));
+    }
+
+    @Test
+    void send_shouldRejectUnsatisfiableRange() throws IOException {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-1100");
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void send_shouldIgnoreRangeWhenIfRangeDoesNotMatch() throws IOException {
+        // given - 파일이 바뀐 뒤의 이어받기 요청
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=500-");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals(1000, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void send_shouldReturnNotModifiedForMatchingEtag() throws IOException {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        // when
+        MockHttpServletResponse response = send(request);
+
+        // then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/files/1/download");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RangeDownloads.send(request, response, file, "application/pdf", "강의.pdf", ETAG, LAST_MODIFIED);
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+CREATE TABLE notes (
+    id BIGINT PRIMARY KEY,
+    body VARCHAR(255) NOT NULL
+);
+
+INSERT INTO notes (id, body) VALUES (1, 'first');
\ No newline at end of file
@@ -0,0 +1 @@
+ALTER TABLE notes ADD COLUMN title VARCHAR(100) DEFAULT 'untitled' NOT NULL;
\ No newline at end of file